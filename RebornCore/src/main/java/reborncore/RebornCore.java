@@ -40,12 +40,16 @@ import reborncore.api.blockentity.UnloadHandler;
 import reborncore.common.RebornCoreCommands;
 import reborncore.common.RebornCoreConfig;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
+import reborncore.common.blockentity.MultiblockIndex;
 import reborncore.common.blocks.BlockWrenchEventHandler;
 import reborncore.common.chunkloading.ChunkLoaderManager;
 import reborncore.common.config.Configuration;
+import reborncore.common.explosion.ExplosionScheduler;
 import reborncore.common.misc.ModSounds;
 import reborncore.common.misc.RebornCoreTags;
+import reborncore.common.multiblock.MultiblockEventHandler;
 import reborncore.common.multiblock.MultiblockRegistry;
+import reborncore.common.network.DeltaSyncManager;
 import reborncore.common.network.ServerBoundPackets;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.powerSystem.PowerSystem;
@@ -96,6 +100,7 @@ public class RebornCore implements ModInitializer {
 		  ticks run only on the server, and only when worlds are loaded.
 		 */
 		WorldTickCallback.EVENT.register(MultiblockRegistry::tickStart);
+		MultiblockEventHandler.init();
 
 		// packets
 		ServerBoundPackets.init();
@@ -111,7 +116,14 @@ public class RebornCore implements ModInitializer {
 		});
 
 		ServerWorldEvents.LOAD.register((server, world) -> ChunkLoaderManager.get(world).onServerWorldLoad(world));
+		ServerWorldEvents.UNLOAD.register((server, world) -> {
+			MultiblockIndex.onWorldUnload(world);
+			DeltaSyncManager.onWorldUnload(world);
+			ExplosionScheduler.onWorldUnload(world);
+		});
 		ServerTickEvents.START_WORLD_TICK.register(world -> ChunkLoaderManager.get(world).onServerWorldTick(world));
+		ServerTickEvents.END_WORLD_TICK.register(DeltaSyncManager::onServerWorldTick);
+		ServerTickEvents.END_WORLD_TICK.register(ExplosionScheduler::onServerWorldTick);
 
 		FluidStorage.SIDED.registerFallback((world, pos, state, be, direction) -> {
 			if (be instanceof MachineBaseBlockEntity machineBase) {
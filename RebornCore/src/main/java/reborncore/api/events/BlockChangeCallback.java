@@ -0,0 +1,50 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package reborncore.api.events;
+
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+
+public interface BlockChangeCallback {
+
+	Event<BlockChangeCallback> EVENT = EventFactory.createArrayBacked(BlockChangeCallback.class,
+			(listeners) -> (world, pos, oldState, newState) -> {
+				for (BlockChangeCallback listener : listeners) {
+					listener.onBlockChanged(world, pos, oldState, newState);
+				}
+			});
+
+	/**
+	 * <p>Called after the block state at a position in a server world has changed.</p>
+	 *
+	 * @param world {@link ServerWorld} World the block changed in
+	 * @param pos {@link BlockPos} Position of the changed block, may be mutable
+	 * @param oldState {@link BlockState} Previous block state
+	 * @param newState {@link BlockState} New block state
+	 */
+	void onBlockChanged(ServerWorld world, BlockPos pos, BlockState oldState, BlockState newState);
+}
@@ -25,8 +25,6 @@
 package reborncore.client;
 
 import com.mojang.serialization.Codec;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.block.entity.BlockEntity;
@@ -36,6 +34,7 @@ import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.gui.screen.ingame.HandledScreen;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
@@ -47,10 +46,14 @@ import reborncore.RebornCore;
 import reborncore.common.blockentity.FluidConfiguration;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.blockentity.SlotConfiguration;
+import reborncore.common.blockentity.SyncedFields;
 import reborncore.common.chunkloading.ChunkLoaderManager;
 import reborncore.common.network.ExtendedPacketBuffer;
 import reborncore.common.screen.BuiltScreenHandler;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Environment(EnvType.CLIENT)
 public class ClientBoundPacketHandlers {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ClientBoundPacketHandlers.class);
@@ -70,6 +73,31 @@ public class ClientBoundPacketHandlers {
 			});
 		});
 
+		ClientNetworkManager.registerClientBoundHandler(new Identifier("reborncore", "delta_sync"), (client, handler, packetBuffer, responseSender) -> {
+			List<BlockPos> positions = new ArrayList<>();
+			List<PacketByteBuf> fieldBuffers = new ArrayList<>();
+			while (packetBuffer.isReadable()) {
+				positions.add(BlockPos.fromLong(packetBuffer.readLong()));
+				// Copied, the packet buffer is released once the handler returns
+				fieldBuffers.add(new PacketByteBuf(packetBuffer.readBytes(packetBuffer.readVarInt())));
+			}
+
+			client.execute(() -> {
+				World world = MinecraftClient.getInstance().world;
+				for (int i = 0; i < positions.size(); i++) {
+					BlockPos pos = positions.get(i);
+					PacketByteBuf fieldBuffer = fieldBuffers.get(i);
+					if (world != null && world.isChunkLoaded(pos) && world.getBlockEntity(pos) instanceof MachineBaseBlockEntity machineBase) {
+						SyncedFields syncedFields = machineBase.getSyncedFields();
+						if (syncedFields != null) {
+							syncedFields.read(fieldBuffer);
+						}
+					}
+					fieldBuffer.release();
+				}
+			});
+		});
+
 		ClientNetworkManager.registerClientBoundHandler(new Identifier("reborncore", "fluid_config_sync"), (client, handler, packetBuffer, responseSender) -> {
 			BlockPos pos = packetBuffer.readBlockPos();
 			NbtCompound compoundTag = packetBuffer.readNbt();
@@ -110,32 +138,23 @@ public class ClientBoundPacketHandlers {
 		});
 
 		ClientNetworkManager.registerClientBoundHandler(new Identifier("reborncore", "send_object"), (client, handler, packetBuffer, responseSender) -> {
-			int size = packetBuffer.readInt();
-			ExtendedPacketBuffer epb = new ExtendedPacketBuffer(packetBuffer);
-			Int2ObjectMap<Object> updatedValues = new Int2ObjectOpenHashMap<>();
-
-			for (int i = 0; i < size; i++) {
-				int id = packetBuffer.readInt();
-				Object value =  epb.readObject();
-				updatedValues.put(id, value);
-			}
-
-			String name = packetBuffer.readString(packetBuffer.readInt());
+			int syncId = packetBuffer.readVarInt();
+			// Copied, the packet buffer is released once the handler returns
+			ExtendedPacketBuffer values = new ExtendedPacketBuffer(packetBuffer.readBytes(packetBuffer.readableBytes()));
 
 			client.execute(() -> {
 				Screen gui = MinecraftClient.getInstance().currentScreen;
 				if (gui instanceof HandledScreen handledScreen) {
 					ScreenHandler screenHandler = handledScreen.getScreenHandler();
 					if (screenHandler instanceof BuiltScreenHandler builtScreenHandler) {
-						String shName = screenHandler.getClass().getName();
-						if (!shName.equals(name)) {
-							LOGGER.warn("Received packet for {} but screen handler {} is open!", name, shName);
-							return;
+						if (screenHandler.syncId != syncId) {
+							LOGGER.warn("Received packet for screen handler {} but screen handler {} is open!", syncId, screenHandler.syncId);
+						} else {
+							builtScreenHandler.handleSyncedValues(values);
 						}
-
-						builtScreenHandler.handleUpdateValues(updatedValues);
 					}
 				}
+				values.release();
 			});
 		});
 
@@ -26,6 +26,7 @@ package reborncore.client.screen.builder;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
+import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
 import net.minecraft.block.entity.AbstractFurnaceBlockEntity;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.inventory.CraftingInventory;
@@ -50,7 +51,14 @@ import reborncore.common.fluid.FluidUtils;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import team.reborn.energy.api.EnergyStorageUtil;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -144,12 +152,38 @@ public class BlockEntityScreenHandlerBuilder {
 	 * @return {@link BlockEntityScreenHandlerBuilder} Inventory which will do the sync
 	 */
 	public <T> BlockEntityScreenHandlerBuilder sync(final Supplier<T> supplier, final Consumer<T> setter) {
-		this.parent.objectValues.add(Pair.of(supplier, setter));
+		this.parent.syncedValues.addObject(supplier, setter);
+		return this;
+	}
+
+	/**
+	 * Like {@link #sync(Supplier, Consumer)} without boxing the value.
+	 */
+	public BlockEntityScreenHandlerBuilder syncInt(final IntSupplier supplier, final IntConsumer setter) {
+		this.parent.syncedValues.addInt(supplier, setter);
+		return this;
+	}
+
+	/**
+	 * Like {@link #sync(Supplier, Consumer)} without boxing the value.
+	 */
+	public BlockEntityScreenHandlerBuilder syncLong(final LongSupplier supplier, final LongConsumer setter) {
+		this.parent.syncedValues.addLong(supplier, setter);
+		return this;
+	}
+
+	/**
+	 * Like {@link #sync(Supplier, Consumer)} without boxing the value.
+	 */
+	public BlockEntityScreenHandlerBuilder syncBoolean(final BooleanSupplier supplier, final BooleanConsumer setter) {
+		this.parent.syncedValues.addBoolean(supplier, setter);
 		return this;
 	}
 
 	public BlockEntityScreenHandlerBuilder sync(Syncable syncable) {
-		syncable.getSyncPair(this.parent.objectValues);
+		List<Pair<Supplier<?>, Consumer<?>>> pairs = new ArrayList<>();
+		syncable.getSyncPair(pairs);
+		pairs.forEach(pair -> this.parent.syncedValues.addObject(pair.getLeft(), pair.getRight()));
 		return this;
 	}
 
@@ -172,9 +206,9 @@ public class BlockEntityScreenHandlerBuilder {
 	public BlockEntityScreenHandlerBuilder syncEnergyValue() {
 		if (this.blockEntity instanceof PowerAcceptorBlockEntity powerAcceptor) {
 
-			return this.sync(powerAcceptor::getEnergy, powerAcceptor::setEnergy)
-					.sync(powerAcceptor::getExtraPowerStorage, powerAcceptor::setExtraPowerStorage)
-					.sync(powerAcceptor::getPowerChange, powerAcceptor::setPowerChange);
+			return this.syncLong(powerAcceptor::getEnergy, powerAcceptor::setEnergy)
+					.syncLong(powerAcceptor::getExtraPowerStorage, powerAcceptor::setExtraPowerStorage)
+					.syncLong(powerAcceptor::getPowerChange, powerAcceptor::setPowerChange);
 		}
 
 		RebornCore.LOGGER.error(this.inventory + " is not an instance of TilePowerAcceptor! Energy cannot be synced.");
@@ -184,8 +218,8 @@ public class BlockEntityScreenHandlerBuilder {
 	public BlockEntityScreenHandlerBuilder syncCrafterValue() {
 		if (this.blockEntity instanceof IRecipeCrafterProvider recipeCrafter) {
 			return this
-					.sync(() -> recipeCrafter.getRecipeCrafter().currentTickTime, (time) -> recipeCrafter.getRecipeCrafter().currentTickTime = time)
-					.sync(() -> recipeCrafter.getRecipeCrafter().currentNeededTicks, (ticks) -> recipeCrafter.getRecipeCrafter().currentNeededTicks = ticks);
+					.syncInt(() -> recipeCrafter.getRecipeCrafter().currentTickTime, (time) -> recipeCrafter.getRecipeCrafter().currentTickTime = time)
+					.syncInt(() -> recipeCrafter.getRecipeCrafter().currentNeededTicks, (ticks) -> recipeCrafter.getRecipeCrafter().currentNeededTicks = ticks);
 		}
 
 		RebornCore.LOGGER.error(this.inventory + " is not an instance of IRecipeCrafterProvider! Craft progress cannot be synced.");
@@ -31,15 +31,14 @@ import net.minecraft.inventory.CraftingInventory;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.util.math.Vec3d;
 import org.apache.commons.lang3.Range;
-import org.apache.commons.lang3.tuple.Pair;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.screen.BuiltScreenHandler;
+import reborncore.common.screen.SyncedValues;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
 
 public class ScreenHandlerBuilder {
 
@@ -48,7 +47,7 @@ public class ScreenHandlerBuilder {
 	final List<Slot> slots;
 	final List<Range<Integer>> playerInventoryRanges, blockEntityInventoryRanges;
 
-	final List<Pair<Supplier<?>, Consumer<?>>> objectValues;
+	final SyncedValues syncedValues;
 
 	final List<Consumer<CraftingInventory>> craftEvents;
 
@@ -60,7 +59,7 @@ public class ScreenHandlerBuilder {
 		this.playerInventoryRanges = new ArrayList<>();
 		this.blockEntityInventoryRanges = new ArrayList<>();
 
-		this.objectValues = new ArrayList<>();
+		this.syncedValues = new SyncedValues();
 
 		this.craftEvents = new ArrayList<>();
 	}
@@ -90,8 +89,8 @@ public class ScreenHandlerBuilder {
 		final BuiltScreenHandler built = new BuiltScreenHandler(syncID, this.name, isUsable(blockEntity),
 				this.playerInventoryRanges,
 				this.blockEntityInventoryRanges, blockEntity);
-		if (!this.objectValues.isEmpty())
-			built.addObjectSync(objectValues);
+		if (!this.syncedValues.isEmpty())
+			built.setSyncedValues(syncedValues);
 		if (!this.craftEvents.isEmpty()) {
 			built.addCraftEvents(this.craftEvents);
 		}
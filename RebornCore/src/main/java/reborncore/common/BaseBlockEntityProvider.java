@@ -36,6 +36,7 @@ import net.minecraft.nbt.NbtCompound;
 import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import reborncore.common.blockentity.MachineBaseBlockEntity;
 
 import java.util.Optional;
 
@@ -73,6 +74,9 @@ public abstract class BaseBlockEntityProvider extends Block implements BlockEnti
 
 	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(World world, BlockState state, BlockEntityType<T> type) {
 		return (world1, pos, state1, blockEntity) -> {
+			if (blockEntity instanceof MachineBaseBlockEntity machine && machine.isSleeping()) {
+				return;
+			}
 			if (blockEntity instanceof BlockEntityTicker) {
 				((BlockEntityTicker) blockEntity).tick(world1, pos, state1, blockEntity);
 			}
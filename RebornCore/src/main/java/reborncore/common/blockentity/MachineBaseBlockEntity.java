@@ -39,6 +39,7 @@ import net.minecraft.network.packet.s2c.play.BlockEntityUpdateS2CPacket;
 import net.minecraft.text.LiteralText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
@@ -53,6 +54,7 @@ import reborncore.api.recipe.IRecipeCrafterProvider;
 import reborncore.common.blocks.BlockMachineBase;
 import reborncore.common.fluid.FluidValue;
 import reborncore.common.network.ClientBoundPackets;
+import reborncore.common.network.DeltaSyncManager;
 import reborncore.common.network.NetworkManager;
 import reborncore.common.recipes.IUpgradeHandler;
 import reborncore.common.recipes.RecipeCrafter;
@@ -74,8 +76,24 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 	private RedstoneConfiguration redstoneConfiguration;
 
 	public boolean renderMultiblock = false;
+	// Bounds of the multiblock when its validity is cached, null otherwise.
+	@Nullable
+	private BlockBox multiblockBounds = null;
+	private boolean multiblockValid = false;
+	@Nullable
+	private SyncedFields syncedFields = null;
 
 	private int tickTime = 0;
+	// The upgrades are applied again when the upgrade inventory or the power redstone state changes.
+	private boolean upgradesApplied = false;
+	private boolean upgradesPowerActive = false;
+
+	/**
+	 * Ticks a machine has to be idle for before it is put to sleep.
+	 */
+	private static final int SLEEP_DELAY = 20;
+	private boolean sleeping = false;
+	private int idleTicks = 0;
 
 	/**
 	 * <p>
@@ -114,19 +132,88 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 		redstoneConfiguration = new RedstoneConfiguration(this);
 	}
 
+	/**
+	 * On the server the result is cached until a block changes inside the bounds of the multiblock,
+	 * see {@link MultiblockIndex}. Call {@link #invalidateMultiblock()} if the shape of the multiblock changes.
+	 *
+	 * @return {@code boolean} If every block of the multiblock is in place
+	 */
 	public boolean isMultiblockValid() {
+		if (world == null || world.isClient) {
+			return verifyMultiblock().isValid();
+		}
+
+		if (multiblockBounds == null) {
+			MultiblockWriter.MultiblockVerifier verifier = verifyMultiblock();
+			multiblockValid = verifier.isValid();
+			multiblockBounds = verifier.getBounds();
+			MultiblockIndex.track(this, multiblockBounds);
+		}
+		return multiblockValid;
+	}
+
+	private MultiblockWriter.MultiblockVerifier verifyMultiblock() {
 		MultiblockWriter.MultiblockVerifier verifier = new MultiblockWriter.MultiblockVerifier(getPos(), getWorld());
 		writeMultiblock(verifier.rotate(getFacing().getOpposite()));
-		return verifier.isValid();
+		return verifier;
+	}
+
+	/**
+	 * Forget the cached multiblock validity, it will be verified again on the next call to {@link #isMultiblockValid()}.
+	 */
+	public void invalidateMultiblock() {
+		if (multiblockBounds != null) {
+			MultiblockIndex.untrack(this, multiblockBounds);
+			multiblockBounds = null;
+		}
+		wakeUp();
+	}
+
+	boolean isInMultiblock(BlockPos pos) {
+		return multiblockBounds != null && multiblockBounds.contains(pos);
+	}
+
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		invalidateMultiblock();
 	}
 
 	public void writeMultiblock(MultiblockWriter writer) {}
 
+	/**
+	 * Sends the block entity to the players tracking it. If any fields are declared in
+	 * {@link #declareSyncedFields(SyncedFields)} only the changed ones are sent at the end of the tick,
+	 * otherwise the whole block entity is sent.
+	 */
 	public void syncWithAll() {
 		if (world == null || world.isClient) { return; }
+		if (getSyncedFields() != null) {
+			DeltaSyncManager.markDirty(this);
+			return;
+		}
 		NetworkManager.sendToTracking(ClientBoundPackets.createCustomDescriptionPacket(this), this);
 	}
 
+	/**
+	 * Declare the fields {@link #syncWithAll()} sends to the client, in the same order on both sides.
+	 *
+	 * @param fields {@link SyncedFields} The fields to add to
+	 */
+	protected void declareSyncedFields(SyncedFields fields) {}
+
+	/**
+	 * @return {@link SyncedFields} The declared fields, or {@code null} if none are declared
+	 */
+	@Nullable
+	public SyncedFields getSyncedFields() {
+		if (syncedFields == null) {
+			syncedFields = new SyncedFields();
+			declareSyncedFields(syncedFields);
+		}
+		return syncedFields.isEmpty() ? null : syncedFields;
+	}
+
 	public void onLoad() {
 		if (slotConfiguration == null) {
 			if (getOptionalInventory().isPresent()) {
@@ -167,14 +254,14 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 			crafter = getOptionalCrafter().get();
 		}
 		if (canBeUpgraded()) {
-			resetUpgrades();
-			for (int i = 0; i < getUpgradeSlotCount(); i++) {
-				ItemStack stack = getUpgradeInventory().getStack(i);
-				if (!stack.isEmpty() && stack.getItem() instanceof IUpgrade) {
-					((IUpgrade) stack.getItem()).process(this, this, stack);
-				}
+			// Some upgrades depend on the max input, which is 0 while power IO is disabled
+			boolean powerActive = isActive(RedstoneConfiguration.POWER_IO);
+			if (!upgradesApplied || upgradeInventory.hasChanged() || powerActive != upgradesPowerActive) {
+				upgradesApplied = true;
+				upgradesPowerActive = powerActive;
+				upgradeInventory.resetHasChanged();
+				applyUpgrades();
 			}
-			afterUpgradesApplication();
 		}
 		if (world == null || world.isClient) {
 			return;
@@ -188,6 +275,64 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 		if (fluidConfiguration != null && isActive(RedstoneConfiguration.FLUID_IO)) {
 			fluidConfiguration.update(this);
 		}
+		if (canSleep()) {
+			if (++idleTicks >= SLEEP_DELAY) {
+				sleeping = true;
+			}
+		} else {
+			idleTicks = 0;
+		}
+	}
+
+	/**
+	 * Machines opt in to sleeping by returning true here when they have nothing to do. After being idle for
+	 * {@link #SLEEP_DELAY} ticks the machine stops ticking until {@link #wakeUp()} is called, which happens when
+	 * the machine is marked dirty (inventory, energy or configuration changes), on neighbour and redstone updates,
+	 * and when a block inside its multiblock changes.
+	 *
+	 * <p>Only called on the server.</p>
+	 *
+	 * @return {@code boolean} Returns true if the machine can't do anything until something changes
+	 */
+	protected boolean canSleep() {
+		return false;
+	}
+
+	/**
+	 * @return {@code boolean} Returns true if item or fluid IO may move something, adjacent storages are not
+	 * watched so a machine with auto input enabled can never sleep
+	 */
+	protected boolean hasPendingIO() {
+		if (slotConfiguration != null && isActive(RedstoneConfiguration.ITEM_IO) && slotConfiguration.hasPendingIO()) {
+			return true;
+		}
+		return fluidConfiguration != null && isActive(RedstoneConfiguration.FLUID_IO)
+				&& (fluidConfiguration.autoInput() || fluidConfiguration.autoOutput());
+	}
+
+	public boolean isSleeping() {
+		return sleeping;
+	}
+
+	public void wakeUp() {
+		sleeping = false;
+	}
+
+	@Override
+	public void markDirty() {
+		super.markDirty();
+		wakeUp();
+	}
+
+	private void applyUpgrades() {
+		resetUpgrades();
+		for (int i = 0; i < getUpgradeSlotCount(); i++) {
+			ItemStack stack = getUpgradeInventory().getStack(i);
+			if (!stack.isEmpty() && stack.getItem() instanceof IUpgrade) {
+				((IUpgrade) stack.getItem()).process(this, this, stack);
+			}
+		}
+		afterUpgradesApplication();
 	}
 
 	public void resetUpgrades() {
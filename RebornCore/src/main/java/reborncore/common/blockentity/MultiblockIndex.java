@@ -0,0 +1,124 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.blockentity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Maps chunk sections to the multiblock controllers whose structure overlaps them, so that a block change only
+ * invalidates the cached validity of the controllers whose structure contains the changed position.
+ * <p>
+ * Only server worlds are indexed, see {@link MachineBaseBlockEntity#isMultiblockValid()}.
+ */
+public final class MultiblockIndex {
+	private static final Map<World, Long2ObjectMap<List<MachineBaseBlockEntity>>> INDEX = new HashMap<>();
+	private static final List<MachineBaseBlockEntity> invalidated = new ArrayList<>();
+
+	private MultiblockIndex() {
+	}
+
+	static void track(MachineBaseBlockEntity controller, BlockBox bounds) {
+		Long2ObjectMap<List<MachineBaseBlockEntity>> sections = INDEX.computeIfAbsent(controller.getWorld(), world -> new Long2ObjectOpenHashMap<>());
+		forEachSection(bounds, section -> sections.computeIfAbsent(section, s -> new ArrayList<>()).add(controller));
+	}
+
+	static void untrack(MachineBaseBlockEntity controller, BlockBox bounds) {
+		Long2ObjectMap<List<MachineBaseBlockEntity>> sections = INDEX.get(controller.getWorld());
+		if (sections == null) {
+			return;
+		}
+
+		forEachSection(bounds, section -> {
+			List<MachineBaseBlockEntity> controllers = sections.get(section);
+			if (controllers != null) {
+				controllers.remove(controller);
+				if (controllers.isEmpty()) {
+					sections.remove(section);
+				}
+			}
+		});
+	}
+
+	private static void forEachSection(BlockBox bounds, LongConsumer consumer) {
+		for (int x = ChunkSectionPos.getSectionCoord(bounds.getMinX()); x <= ChunkSectionPos.getSectionCoord(bounds.getMaxX()); x++) {
+			for (int y = ChunkSectionPos.getSectionCoord(bounds.getMinY()); y <= ChunkSectionPos.getSectionCoord(bounds.getMaxY()); y++) {
+				for (int z = ChunkSectionPos.getSectionCoord(bounds.getMinZ()); z <= ChunkSectionPos.getSectionCoord(bounds.getMaxZ()); z++) {
+					consumer.accept(ChunkSectionPos.asLong(x, y, z));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Called when a block changes in a server world.
+	 *
+	 * @param world {@link World} The world the block changed in
+	 * @param pos {@link BlockPos} The position of the changed block
+	 */
+	public static void onBlockChanged(World world, BlockPos pos) {
+		Long2ObjectMap<List<MachineBaseBlockEntity>> sections = INDEX.get(world);
+		if (sections == null) {
+			return;
+		}
+
+		List<MachineBaseBlockEntity> controllers = sections.get(ChunkSectionPos.asLong(
+			ChunkSectionPos.getSectionCoord(pos.getX()),
+			ChunkSectionPos.getSectionCoord(pos.getY()),
+			ChunkSectionPos.getSectionCoord(pos.getZ())));
+		if (controllers == null) {
+			return;
+		}
+
+		for (MachineBaseBlockEntity controller : controllers) {
+			if (controller.isInMultiblock(pos)) {
+				invalidated.add(controller);
+			}
+		}
+
+		// Invalidating untracks the controller, which modifies the lists.
+		try {
+			for (MachineBaseBlockEntity controller : invalidated) {
+				controller.invalidateMultiblock();
+			}
+		} finally {
+			invalidated.clear();
+		}
+	}
+
+	public static void onWorldUnload(World world) {
+		INDEX.remove(world);
+	}
+}
@@ -26,6 +26,7 @@ package reborncore.common.blockentity;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.BlockView;
@@ -205,20 +206,40 @@ public interface MultiblockWriter {
 		private final BlockView view;
 
 		private boolean valid = true;
+		private int minX, minY, minZ, maxX, maxY, maxZ;
 
 		public MultiblockVerifier(BlockPos relative, BlockView view) {
 			this.relative = relative;
 			this.view = view;
+			this.minX = this.maxX = relative.getX();
+			this.minY = this.maxY = relative.getY();
+			this.minZ = this.maxZ = relative.getZ();
 		}
 
 		public boolean isValid() {
 			return valid;
 		}
 
+		/**
+		 * @return {@link BlockBox} The box containing the relative position and every position that was added,
+		 * including the ones that were not tested because the multiblock was already invalid
+		 */
+		public BlockBox getBounds() {
+			return new BlockBox(minX, minY, minZ, maxX, maxY, maxZ);
+		}
+
 		@Override
 		public MultiblockWriter add(int x, int y, int z, BiPredicate<BlockView, BlockPos> predicate, BlockState state) {
+			BlockPos pos = relative.add(x, y, z);
+			minX = Math.min(minX, pos.getX());
+			minY = Math.min(minY, pos.getY());
+			minZ = Math.min(minZ, pos.getZ());
+			maxX = Math.max(maxX, pos.getX());
+			maxY = Math.max(maxY, pos.getY());
+			maxZ = Math.max(maxZ, pos.getZ());
+
 			if (valid) {
-				valid = predicate.test(view, relative.add(x, y, z));
+				valid = predicate.test(view, pos);
 			}
 
 			return this;
@@ -25,13 +25,20 @@
 package reborncore.common.blockentity;
 
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.fabricmc.fabric.api.transfer.v1.item.ItemStorage;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.fabricmc.fabric.api.transfer.v1.storage.StorageUtil;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.CombinedStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleSlotStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.inventory.Inventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.StringNbtReader;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Direction;
 import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.NotNull;
@@ -50,6 +57,17 @@ public class SlotConfiguration implements NBTSerializable {
 	@Nullable
 	Inventory inventory;
 
+	// Item IO state, only used on the server
+	@SuppressWarnings("unchecked")
+	private final BlockApiCache<Storage<ItemVariant>, Direction>[] adjacentCaches = new BlockApiCache[6];
+	@Nullable
+	private MachineBaseBlockEntity ioMachine;
+	@Nullable
+	private InventoryStorage ioStorage;
+	private final List<SingleSlotStorage<ItemVariant>> inputSlots = new ArrayList<>();
+	private final List<SingleSlotStorage<ItemVariant>> outputSlots = new ArrayList<>();
+	private final CombinedStorage<ItemVariant, SingleSlotStorage<ItemVariant>> outputStorage = new CombinedStorage<>(outputSlots);
+
 	public SlotConfiguration(RebornInventory<?> inventory) {
 		this.inventory = inventory;
 
@@ -73,8 +91,87 @@ public class SlotConfiguration implements NBTSerializable {
 			}
 		}
 		if (!machineBase.getWorld().isClient && machineBase.getWorld().getTime() % machineBase.slotTransferSpeed() == 0) {
-			getSlotDetails().forEach(slotConfigHolder -> slotConfigHolder.handleItemIO(machineBase));
+			handleItemIO(machineBase);
+		}
+	}
+
+	/**
+	 * @return {@code boolean} Returns true if a slot has auto input enabled, or auto output enabled while it holds items
+	 */
+	boolean hasPendingIO() {
+		for (SlotConfigHolder holder : slotDetails) {
+			if (holder.input && holder.hasSide(ExtractConfig.INPUT)) {
+				return true;
+			}
+			if (holder.output && inventory != null && !inventory.getStack(holder.slotID).isEmpty() && holder.hasSide(ExtractConfig.OUTPUT)) {
+				return true;
+			}
 		}
+		return false;
+	}
+
+	/**
+	 * Moves items between the slots and the adjacent storages. The storage of each side is only looked up when a slot
+	 * uses that side, and all the slots of a side are handled in a single transaction.
+	 */
+	private void handleItemIO(MachineBaseBlockEntity machineBase) {
+		if (inventory == null) {
+			return;
+		}
+
+		if (ioMachine != machineBase) {
+			ioMachine = machineBase;
+			ioStorage = InventoryStorage.of(machineBase, null);
+			Arrays.fill(adjacentCaches, null);
+		}
+
+		for (Direction side : Direction.values()) {
+			inputSlots.clear();
+			outputSlots.clear();
+
+			for (SlotConfigHolder holder : slotDetails) {
+				if (!holder.input && !holder.output) {
+					continue;
+				}
+				ExtractConfig ioConfig = holder.getSideDetail(side).getSlotIO().getIoConfig();
+				ItemStack stack = inventory.getStack(holder.slotID);
+
+				if (holder.input && ioConfig == ExtractConfig.INPUT && stack.getCount() != stack.getMaxCount()) {
+					inputSlots.add(ioStorage.getSlot(holder.slotID));
+				} else if (holder.output && ioConfig == ExtractConfig.OUTPUT && !stack.isEmpty()) {
+					outputSlots.add(ioStorage.getSlot(holder.slotID));
+				}
+			}
+
+			if (inputSlots.isEmpty() && outputSlots.isEmpty()) {
+				continue;
+			}
+
+			Storage<ItemVariant> adjacentStorage = getAdjacentCache(machineBase, side).find(side.getOpposite());
+			if (adjacentStorage == null) {
+				continue;
+			}
+
+			try (Transaction transaction = Transaction.openOuter()) {
+				for (SingleSlotStorage<ItemVariant> slot : inputSlots) {
+					StorageUtil.move(adjacentStorage, slot, iv -> true, 4, transaction); // Move up to 4 per tick.
+				}
+				if (!outputSlots.isEmpty()) {
+					StorageUtil.move(outputStorage, adjacentStorage, iv -> true, Long.MAX_VALUE, transaction);
+				}
+				transaction.commit();
+			}
+		}
+
+		inputSlots.clear();
+		outputSlots.clear();
+	}
+
+	private BlockApiCache<Storage<ItemVariant>, Direction> getAdjacentCache(MachineBaseBlockEntity machineBase, Direction side) {
+		if (adjacentCaches[side.getId()] == null) {
+			adjacentCaches[side.getId()] = BlockApiCache.create(ItemStorage.SIDED, (ServerWorld) machineBase.getWorld(), machineBase.getPos().offset(side));
+		}
+		return adjacentCaches[side.getId()];
 	}
 
 	public SlotConfiguration(NbtCompound tagCompound) {
@@ -168,27 +265,20 @@ public class SlotConfiguration implements NBTSerializable {
 			return new ArrayList<>(sideMap.values());
 		}
 
+		private boolean hasSide(ExtractConfig ioConfig) {
+			for (SlotConfig config : sideMap.values()) {
+				if (config.getSlotIO().getIoConfig() == ioConfig) {
+					return true;
+				}
+			}
+			return false;
+		}
+
 		public void updateSlotConfig(SlotConfig config) {
 			SlotConfig toEdit = sideMap.get(config.side);
 			toEdit.slotIO = config.slotIO;
 		}
 
-		private void handleItemIO(MachineBaseBlockEntity machineBase) {
-			if (!input && !output) {
-				return;
-			}
-			getAllSides().stream()
-				.filter(config -> config.getSlotIO().getIoConfig() != ExtractConfig.NONE)
-				.forEach(config -> {
-					if (input && config.getSlotIO().getIoConfig() == ExtractConfig.INPUT) {
-						config.handleItemInput(machineBase);
-					}
-					if (output && config.getSlotIO().getIoConfig() == ExtractConfig.OUTPUT) {
-						config.handleItemOutput(machineBase);
-					}
-				});
-		}
-
 		public boolean autoInput() {
 			return input;
 		}
@@ -283,38 +373,6 @@ public class SlotConfiguration implements NBTSerializable {
 			return slotID;
 		}
 
-		private void handleItemInput(MachineBaseBlockEntity machineBase) {
-			RebornInventory<?> inventory = machineBase.getOptionalInventory().get();
-			ItemStack targetStack = inventory.getStack(slotID);
-			if (targetStack.getMaxCount() == targetStack.getCount()) {
-				return;
-			}
-
-			StorageUtil.move(
-					ItemStorage.SIDED.find(machineBase.getWorld(), machineBase.getPos().offset(side), side.getOpposite()),
-					InventoryStorage.of(machineBase, null).getSlot(slotID),
-					iv -> true,
-					4, // Move up to 4 per tick.
-					null
-			);
-		}
-
-		private void handleItemOutput(MachineBaseBlockEntity machineBase) {
-			RebornInventory<?> inventory = machineBase.getOptionalInventory().get();
-			ItemStack sourceStack = inventory.getStack(slotID);
-			if (sourceStack.isEmpty()) {
-				return;
-			}
-
-			StorageUtil.move(
-					InventoryStorage.of(machineBase, null).getSlot(slotID),
-					ItemStorage.SIDED.find(machineBase.getWorld(), machineBase.getPos().offset(side), side.getOpposite()),
-					iv -> true,
-					Long.MAX_VALUE,
-					null
-			);
-		}
-
 		@NotNull
 		@Override
 		public NbtCompound write() {
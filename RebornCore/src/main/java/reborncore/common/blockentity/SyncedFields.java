@@ -0,0 +1,304 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.blockentity;
+
+import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.util.registry.Registry;
+import reborncore.common.fluid.FluidValue;
+import reborncore.common.fluid.container.FluidInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The fields of a {@link MachineBaseBlockEntity} that are sent to the client by {@link MachineBaseBlockEntity#syncWithAll()}.
+ * <p>
+ * Each field remembers the value last sent, only the fields that changed since are written. Fields are identified
+ * by the order they are added in, so the client and the server must declare the same fields in the same order.
+ */
+public final class SyncedFields {
+	private static final int MAX_FIELDS = Long.SIZE;
+
+	private final List<Field> fields = new ArrayList<>();
+
+	public SyncedFields addInt(IntSupplier getter, IntConsumer setter) {
+		return add(new IntField(getter, setter));
+	}
+
+	public SyncedFields addLong(LongSupplier getter, LongConsumer setter) {
+		return add(new LongField(getter, setter));
+	}
+
+	public SyncedFields addBoolean(BooleanSupplier getter, BooleanConsumer setter) {
+		return add(new BooleanField(getter, setter));
+	}
+
+	/**
+	 * The count of the stack is not limited to a byte, unlike {@link PacketByteBuf#writeItemStack(ItemStack)}.
+	 * An empty stack is read as {@link ItemStack#EMPTY}.
+	 */
+	public SyncedFields addItemStack(Supplier<ItemStack> getter, Consumer<ItemStack> setter) {
+		return add(new ItemStackField(getter, setter));
+	}
+
+	public SyncedFields addFluid(Supplier<FluidInstance> getter, Consumer<FluidInstance> setter) {
+		return add(new FluidField(getter, setter));
+	}
+
+	private SyncedFields add(Field field) {
+		if (fields.size() == MAX_FIELDS) {
+			throw new IllegalStateException("Cannot sync more than " + MAX_FIELDS + " fields");
+		}
+		fields.add(field);
+		return this;
+	}
+
+	public boolean isEmpty() {
+		return fields.isEmpty();
+	}
+
+	/**
+	 * Writes the fields that changed since the last call.
+	 *
+	 * @param buf {@link PacketByteBuf} The buffer to write to
+	 * @return {@code boolean} If anything was written
+	 */
+	public boolean write(PacketByteBuf buf) {
+		long changed = 0;
+		for (int i = 0; i < fields.size(); i++) {
+			if (fields.get(i).hasChanged()) {
+				changed |= 1L << i;
+			}
+		}
+
+		if (changed == 0) {
+			return false;
+		}
+
+		buf.writeVarLong(changed);
+		for (int i = 0; i < fields.size(); i++) {
+			if ((changed & 1L << i) != 0) {
+				fields.get(i).write(buf);
+			}
+		}
+		return true;
+	}
+
+	public void read(PacketByteBuf buf) {
+		long changed = buf.readVarLong();
+		for (int i = 0; i < fields.size(); i++) {
+			if ((changed & 1L << i) != 0) {
+				fields.get(i).read(buf);
+			}
+		}
+	}
+
+	private interface Field {
+		boolean hasChanged();
+
+		// Also remembers the written value as the last sent one.
+		void write(PacketByteBuf buf);
+
+		void read(PacketByteBuf buf);
+	}
+
+	private static final class IntField implements Field {
+		private final IntSupplier getter;
+		private final IntConsumer setter;
+		private boolean sent = false;
+		private int value;
+
+		IntField(IntSupplier getter, IntConsumer setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public boolean hasChanged() {
+			return !sent || getter.getAsInt() != value;
+		}
+
+		@Override
+		public void write(PacketByteBuf buf) {
+			value = getter.getAsInt();
+			sent = true;
+			buf.writeVarInt(value);
+		}
+
+		@Override
+		public void read(PacketByteBuf buf) {
+			setter.accept(buf.readVarInt());
+		}
+	}
+
+	private static final class LongField implements Field {
+		private final LongSupplier getter;
+		private final LongConsumer setter;
+		private boolean sent = false;
+		private long value;
+
+		LongField(LongSupplier getter, LongConsumer setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public boolean hasChanged() {
+			return !sent || getter.getAsLong() != value;
+		}
+
+		@Override
+		public void write(PacketByteBuf buf) {
+			value = getter.getAsLong();
+			sent = true;
+			buf.writeVarLong(value);
+		}
+
+		@Override
+		public void read(PacketByteBuf buf) {
+			setter.accept(buf.readVarLong());
+		}
+	}
+
+	private static final class BooleanField implements Field {
+		private final BooleanSupplier getter;
+		private final BooleanConsumer setter;
+		private boolean sent = false;
+		private boolean value;
+
+		BooleanField(BooleanSupplier getter, BooleanConsumer setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public boolean hasChanged() {
+			return !sent || getter.getAsBoolean() != value;
+		}
+
+		@Override
+		public void write(PacketByteBuf buf) {
+			value = getter.getAsBoolean();
+			sent = true;
+			buf.writeBoolean(value);
+		}
+
+		@Override
+		public void read(PacketByteBuf buf) {
+			setter.accept(buf.readBoolean());
+		}
+	}
+
+	private static final class ItemStackField implements Field {
+		private final Supplier<ItemStack> getter;
+		private final Consumer<ItemStack> setter;
+		// Stacks are mutable, so a copy of the sent stack is kept.
+		private ItemStack value = null;
+
+		ItemStackField(Supplier<ItemStack> getter, Consumer<ItemStack> setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public boolean hasChanged() {
+			return value == null || !ItemStack.areEqual(getter.get(), value);
+		}
+
+		@Override
+		public void write(PacketByteBuf buf) {
+			ItemStack stack = getter.get();
+			value = stack.copy();
+			if (stack.isEmpty()) {
+				buf.writeBoolean(false);
+				return;
+			}
+			buf.writeBoolean(true);
+			buf.writeVarInt(Item.getRawId(stack.getItem()));
+			buf.writeVarInt(stack.getCount());
+			buf.writeNbt(stack.getNbt());
+		}
+
+		@Override
+		public void read(PacketByteBuf buf) {
+			if (!buf.readBoolean()) {
+				setter.accept(ItemStack.EMPTY);
+				return;
+			}
+			ItemStack stack = new ItemStack(Item.byRawId(buf.readVarInt()), buf.readVarInt());
+			stack.setNbt(buf.readNbt());
+			setter.accept(stack);
+		}
+	}
+
+	private static final class FluidField implements Field {
+		private final Supplier<FluidInstance> getter;
+		private final Consumer<FluidInstance> setter;
+		private FluidInstance value = null;
+
+		FluidField(Supplier<FluidInstance> getter, Consumer<FluidInstance> setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public boolean hasChanged() {
+			FluidInstance fluid = getter.get();
+			return value == null || !value.equals(fluid) || !Objects.equals(value.getTag(), fluid.getTag());
+		}
+
+		@Override
+		public void write(PacketByteBuf buf) {
+			FluidInstance fluid = getter.get();
+			value = fluid.copy();
+			if (fluid.getTag() != null) {
+				value.setTag(fluid.getTag().copy());
+			}
+			buf.writeVarInt(Registry.FLUID.getRawId(fluid.getFluid()));
+			buf.writeVarLong(fluid.getAmount().getRawValue());
+			buf.writeNbt(fluid.getTag());
+		}
+
+		@Override
+		public void read(PacketByteBuf buf) {
+			Fluid fluid = Registry.FLUID.get(buf.readVarInt());
+			FluidInstance instance = new FluidInstance(fluid, FluidValue.fromRaw(buf.readVarLong()));
+			instance.setTag(buf.readNbt());
+			setter.accept(instance);
+		}
+	}
+}
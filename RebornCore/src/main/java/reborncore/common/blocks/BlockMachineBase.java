@@ -139,6 +139,15 @@ public abstract class BlockMachineBase extends BaseBlockEntityProvider implement
 		builder.add(FACING, ACTIVE);
 	}
 
+	@SuppressWarnings("deprecation")
+	@Override
+	public void neighborUpdate(BlockState state, World world, BlockPos pos, Block block, BlockPos fromPos, boolean notify) {
+		super.neighborUpdate(state, world, pos, block, fromPos, notify);
+		if (world.getBlockEntity(pos) instanceof MachineBaseBlockEntity machine) {
+			machine.wakeUp();
+		}
+	}
+
 	@SuppressWarnings("deprecation")
 	@Override
 	public void onStateReplaced(BlockState state, World worldIn, BlockPos pos, BlockState newState, boolean isMoving) {
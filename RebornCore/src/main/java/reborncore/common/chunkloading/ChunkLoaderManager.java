@@ -26,6 +26,8 @@ package reborncore.common.chunkloading;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtElement;
 import net.minecraft.nbt.NbtOps;
@@ -45,7 +47,6 @@ import reborncore.common.network.ClientBoundPackets;
 import reborncore.common.network.NetworkManager;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 // This does not do the actual chunk loading, just keeps track of what chunks the chunk loader has loaded
 public class ChunkLoaderManager extends PersistentState {
@@ -64,50 +65,69 @@ public class ChunkLoaderManager extends PersistentState {
 		return serverWorld.getPersistentStateManager().getOrCreate(ChunkLoaderManager::fromTag, ChunkLoaderManager::new, KEY);
 	}
 
-	private final List<LoadedChunk> loadedChunks = new ArrayList<>();
+	// Insertion ordered, the order chunks are saved and synced in
+	private final Set<LoadedChunk> loadedChunks = new LinkedHashSet<>();
+	// Indexes of loadedChunks per world, see WorldIndex
+	private final Map<Identifier, WorldIndex> worldIndexes = new HashMap<>();
 
 	public static ChunkLoaderManager fromTag(NbtCompound tag) {
 		ChunkLoaderManager chunkLoaderManager = new ChunkLoaderManager();
 
-		chunkLoaderManager.loadedChunks.clear();
-
 		List<LoadedChunk> chunks = CODEC.parse(NbtOps.INSTANCE, tag.getList("loadedchunks", NbtElement.COMPOUND_TYPE))
 				.result()
 				.orElse(Collections.emptyList());
 
-		chunkLoaderManager.loadedChunks.addAll(chunks);
+		chunks.forEach(chunkLoaderManager::addLoadedChunk);
 
 		return chunkLoaderManager;
 	}
 
 	@Override
 	public NbtCompound writeNbt(NbtCompound compoundTag) {
-		CODEC.encodeStart(NbtOps.INSTANCE, loadedChunks)
+		CODEC.encodeStart(NbtOps.INSTANCE, new ArrayList<>(loadedChunks))
 				.result()
 				.ifPresent(tag -> compoundTag.put("loadedchunks", tag));
 		return compoundTag;
 	}
 
+	private void addLoadedChunk(LoadedChunk loadedChunk) {
+		loadedChunks.add(loadedChunk);
+		worldIndexes.computeIfAbsent(loadedChunk.getWorld(), world -> new WorldIndex()).add(loadedChunk);
+	}
+
+	private void removeLoadedChunk(LoadedChunk loadedChunk) {
+		loadedChunks.remove(loadedChunk);
+		WorldIndex worldIndex = worldIndexes.get(loadedChunk.getWorld());
+		if (worldIndex != null) {
+			worldIndex.remove(loadedChunk);
+		}
+	}
+
+	private List<LoadedChunk> getLoadedChunks(World world, ChunkPos chunkPos) {
+		WorldIndex worldIndex = worldIndexes.get(getWorldName(world));
+		return worldIndex == null ? Collections.emptyList() : worldIndex.byChunk.getOrDefault(chunkPos.toLong(), Collections.emptyList());
+	}
+
 	public Optional<LoadedChunk> getLoadedChunk(World world, ChunkPos chunkPos, BlockPos chunkLoader){
-		return loadedChunks.stream()
-			.filter(loadedChunk -> loadedChunk.getWorld().equals(getWorldName(world)))
-			.filter(loadedChunk -> loadedChunk.getChunk().equals(chunkPos))
-			.filter(loadedChunk -> loadedChunk.getChunkLoader().equals(chunkLoader))
-			.findFirst();
+		for (LoadedChunk loadedChunk : getLoadedChunks(world, chunkPos)) {
+			if (loadedChunk.getChunkLoader().equals(chunkLoader)) {
+				return Optional.of(loadedChunk);
+			}
+		}
+		return Optional.empty();
 	}
 
 	public Optional<LoadedChunk> getLoadedChunk(World world, ChunkPos chunkPos){
-		return loadedChunks.stream()
-			.filter(loadedChunk -> loadedChunk.getWorld().equals(getWorldName(world)))
-			.filter(loadedChunk -> loadedChunk.getChunk().equals(chunkPos))
-			.findFirst();
+		List<LoadedChunk> chunks = getLoadedChunks(world, chunkPos);
+		return chunks.isEmpty() ? Optional.empty() : Optional.of(chunks.get(0));
 	}
 
 	public List<LoadedChunk> getLoadedChunks(World world, BlockPos chunkLoader){
-		return loadedChunks.stream()
-			.filter(loadedChunk -> loadedChunk.getWorld().equals(getWorldName(world)))
-			.filter(loadedChunk -> loadedChunk.getChunkLoader().equals(chunkLoader))
-			.collect(Collectors.toList());
+		WorldIndex worldIndex = worldIndexes.get(getWorldName(world));
+		if (worldIndex == null) {
+			return new ArrayList<>();
+		}
+		return new ArrayList<>(worldIndex.byChunkLoader.getOrDefault(chunkLoader.asLong(), Collections.emptyList()));
 	}
 
 	public boolean isChunkLoaded(World world, ChunkPos chunkPos, BlockPos chunkLoader){
@@ -115,14 +135,14 @@ public class ChunkLoaderManager extends PersistentState {
 	}
 
 	public boolean isChunkLoaded(World world, ChunkPos chunkPos){
-		return getLoadedChunk(world, chunkPos).isPresent();
+		return !getLoadedChunks(world, chunkPos).isEmpty();
 	}
 
 
 	public void loadChunk(World world, ChunkPos chunkPos, BlockPos chunkLoader, String player){
 		Validate.isTrue(!isChunkLoaded(world, chunkPos, chunkLoader), "chunk is already loaded");
 		LoadedChunk loadedChunk = new LoadedChunk(chunkPos, getWorldName(world), player, chunkLoader);
-		loadedChunks.add(loadedChunk);
+		addLoadedChunk(loadedChunk);
 
 		loadChunk((ServerWorld) world, loadedChunk);
 
@@ -130,16 +150,18 @@ public class ChunkLoaderManager extends PersistentState {
 	}
 
 	public void unloadChunkLoader(World world, BlockPos chunkLoader){
-		getLoadedChunks(world, chunkLoader).forEach(loadedChunk -> unloadChunk(world, loadedChunk.getChunk(), chunkLoader));
+		getLoadedChunks(world, chunkLoader).forEach(loadedChunk -> unloadChunk(world, loadedChunk));
 	}
 
 	public void unloadChunk(World world, ChunkPos chunkPos, BlockPos chunkLoader){
 		Optional<LoadedChunk> optionalLoadedChunk = getLoadedChunk(world, chunkPos, chunkLoader);
 		Validate.isTrue(optionalLoadedChunk.isPresent(), "chunk is not loaded");
 
-		LoadedChunk loadedChunk = optionalLoadedChunk.get();
+		unloadChunk(world, optionalLoadedChunk.get());
+	}
 
-		loadedChunks.remove(loadedChunk);
+	private void unloadChunk(World world, LoadedChunk loadedChunk) {
+		removeLoadedChunk(loadedChunk);
 
 		if(!isChunkLoaded(world, loadedChunk.getChunk())){
 			final ServerChunkManager serverChunkManager = ((ServerWorld) world).getChunkManager();
@@ -167,11 +189,15 @@ public class ChunkLoaderManager extends PersistentState {
 	}
 
 	public void syncChunkLoaderToClient(ServerPlayerEntity serverPlayerEntity, BlockPos chunkLoader){
-		syncToClient(serverPlayerEntity, loadedChunks.stream().filter(loadedChunk -> loadedChunk.getChunkLoader().equals(chunkLoader)).collect(Collectors.toList()));
+		List<LoadedChunk> chunks = new ArrayList<>();
+		for (WorldIndex worldIndex : worldIndexes.values()) {
+			chunks.addAll(worldIndex.byChunkLoader.getOrDefault(chunkLoader.asLong(), Collections.emptyList()));
+		}
+		syncToClient(serverPlayerEntity, chunks);
 	}
 
 	public void syncAllToClient(ServerPlayerEntity serverPlayerEntity) {
-		syncToClient(serverPlayerEntity, loadedChunks);
+		syncToClient(serverPlayerEntity, new ArrayList<>(loadedChunks));
 	}
 
 	public void clearClient(ServerPlayerEntity serverPlayerEntity) {
@@ -187,6 +213,29 @@ public class ChunkLoaderManager extends PersistentState {
 		world.getChunkManager().addTicket(ChunkLoaderManager.CHUNK_LOADER, chunkPos, RADIUS, chunkPos);
 	}
 
+	// The loaded chunks of one world by chunk and by chunk loader
+	private static class WorldIndex {
+		private final Long2ObjectMap<List<LoadedChunk>> byChunk = new Long2ObjectOpenHashMap<>();
+		private final Long2ObjectMap<List<LoadedChunk>> byChunkLoader = new Long2ObjectOpenHashMap<>();
+
+		private void add(LoadedChunk loadedChunk) {
+			byChunk.computeIfAbsent(loadedChunk.getChunk().toLong(), chunk -> new ArrayList<>()).add(loadedChunk);
+			byChunkLoader.computeIfAbsent(loadedChunk.getChunkLoader().asLong(), chunkLoader -> new ArrayList<>()).add(loadedChunk);
+		}
+
+		private void remove(LoadedChunk loadedChunk) {
+			remove(byChunk, loadedChunk.getChunk().toLong(), loadedChunk);
+			remove(byChunkLoader, loadedChunk.getChunkLoader().asLong(), loadedChunk);
+		}
+
+		private static void remove(Long2ObjectMap<List<LoadedChunk>> index, long key, LoadedChunk loadedChunk) {
+			List<LoadedChunk> chunks = index.get(key);
+			if (chunks != null && chunks.remove(loadedChunk) && chunks.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+
 	public static class LoadedChunk {
 
 		public static Codec<ChunkPos> CHUNK_POS_CODEC = RecordCodecBuilder.create(instance ->
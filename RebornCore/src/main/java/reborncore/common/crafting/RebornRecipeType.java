@@ -25,6 +25,7 @@
 package reborncore.common.crafting;
 
 import com.google.gson.JsonObject;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.recipe.RecipeSerializer;
 import net.minecraft.recipe.RecipeType;
@@ -33,14 +34,22 @@ import net.minecraft.util.JsonHelper;
 import net.minecraft.world.World;
 import reborncore.common.crafting.serde.RecipeSerde;
 import reborncore.common.crafting.serde.RecipeSerdeException;
-import reborncore.common.util.serialization.SerializationUtil;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 public record RebornRecipeType<R extends RebornRecipe>(
 		RecipeSerde<R> recipeSerde,
 		Identifier name) implements RecipeType<R>, RecipeSerializer<R> {
 
+	/**
+	 * Encoded network form of each recipe. Recipes are recreated on every datapack reload, so entries are built once
+	 * per reload and shared between every player the recipes are sent to.
+	 */
+	private static final Map<RebornRecipe, byte[]> NETWORK_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
 	@Override
 	public R read(Identifier recipeId, JsonObject json) {
 		Identifier type = new Identifier(JsonHelper.getString(json, "type"));
@@ -70,18 +79,37 @@ public record RebornRecipeType<R extends RebornRecipe>(
 
 	@Override
 	public R read(Identifier recipeId, PacketByteBuf buffer) {
-		String jsonSize = buffer.readString(buffer.readInt());
-		return read(recipeId, SerializationUtil.GSON_FLAT.fromJson(jsonSize, JsonObject.class));
+		try {
+			return recipeSerde.fromPacket(buffer, this, recipeId);
+		} catch (Throwable e) {
+			throw new RecipeSerdeException(recipeId, e);
+		}
 	}
 
 	@Override
 	public void write(PacketByteBuf buffer, R recipe) {
-		String output = SerializationUtil.GSON_FLAT.toJson(toJson(recipe, true));
-		buffer.writeInt(output.length());
-		buffer.writeString(output);
+		buffer.writeBytes(NETWORK_CACHE.computeIfAbsent(recipe, r -> encode(recipe)));
+	}
+
+	private byte[] encode(R recipe) {
+		PacketByteBuf buffer = PacketByteBufs.create();
+
+		try {
+			recipeSerde.toPacket(recipe, buffer);
+		} catch (Throwable e) {
+			throw new RecipeSerdeException(recipe.getId(), e);
+		}
+
+		byte[] bytes = new byte[buffer.readableBytes()];
+		buffer.readBytes(bytes);
+		return bytes;
 	}
 
 	public List<R> getRecipes(World world) {
 		return RecipeUtils.getRecipes(world, this);
 	}
+
+	public RecipeIndex<R> getRecipeIndex(World world) {
+		return RecipeUtils.getRecipeIndex(world, this);
+	}
 }
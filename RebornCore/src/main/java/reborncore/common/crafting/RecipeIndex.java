@@ -0,0 +1,209 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.crafting;
+
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.Recipe;
+import net.minecraft.recipe.RecipeManager;
+import reborncore.common.crafting.ingredient.RebornIngredient;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recipes of a {@link RebornRecipeType} indexed by the items of their ingredients.
+ * <p>
+ * An index is built the first time it is requested after a datapack reload, as the recipe manager replaces
+ * the recipe maps when it reloads.
+ */
+public final class RecipeIndex<R extends RebornRecipe> {
+	private static final Map<RecipeManager, Map<RebornRecipeType<?>, RecipeIndex<?>>> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private final Map<?, ?> source;
+	private final List<R> recipes;
+	/**
+	 * Ordinals of the recipes whose first ingredient can match an item, in recipe order.
+	 */
+	private final Map<Item, int[]> recipesByItem = new IdentityHashMap<>();
+	/**
+	 * Recipes without any ingredient, these are candidates for every inventory.
+	 */
+	private final int[] unconditionalRecipes;
+	/**
+	 * All the ingredients that can match an item, used to validate inputs.
+	 */
+	private final Map<Item, List<RebornIngredient>> ingredientsByItem = new IdentityHashMap<>();
+
+	private RecipeIndex(Map<?, ? extends Recipe<?>> source) {
+		this.source = source;
+
+		List<R> recipes = new ArrayList<>(source.size());
+		Map<Item, List<Integer>> recipesByItem = new IdentityHashMap<>();
+		List<Integer> unconditionalRecipes = new ArrayList<>();
+
+		for (Recipe<?> recipe : source.values()) {
+			@SuppressWarnings("unchecked")
+			R rebornRecipe = (R) recipe;
+			int ordinal = recipes.size();
+			recipes.add(rebornRecipe);
+
+			List<RebornIngredient> ingredients = rebornRecipe.getRebornIngredients();
+			if (ingredients.isEmpty()) {
+				unconditionalRecipes.add(ordinal);
+				continue;
+			}
+
+			for (Item item : ingredients.get(0).getMatchingItems()) {
+				List<Integer> ordinals = recipesByItem.computeIfAbsent(item, i -> new ArrayList<>());
+				if (ordinals.isEmpty() || ordinals.get(ordinals.size() - 1) != ordinal) {
+					ordinals.add(ordinal);
+				}
+			}
+
+			for (RebornIngredient ingredient : ingredients) {
+				for (Item item : ingredient.getMatchingItems()) {
+					List<RebornIngredient> itemIngredients = ingredientsByItem.computeIfAbsent(item, i -> new ArrayList<>());
+					if (!itemIngredients.contains(ingredient)) {
+						itemIngredients.add(ingredient);
+					}
+				}
+			}
+		}
+
+		this.recipes = Collections.unmodifiableList(recipes);
+		recipesByItem.forEach((item, ordinals) -> this.recipesByItem.put(item, toArray(ordinals)));
+		this.unconditionalRecipes = toArray(unconditionalRecipes);
+	}
+
+	private static int[] toArray(List<Integer> list) {
+		return list.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Return the index of the recipes of a type, rebuilding it if the recipes were reloaded.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R extends RebornRecipe> RecipeIndex<R> of(RecipeManager recipeManager, RebornRecipeType<R> type) {
+		Map<?, ? extends Recipe<?>> source = recipeManager.getAllOfType(type);
+		Map<RebornRecipeType<?>, RecipeIndex<?>> indexes = INDEXES.computeIfAbsent(recipeManager, manager -> new ConcurrentHashMap<>());
+
+		RecipeIndex<?> index = indexes.get(type);
+		if (index == null || index.source != source) {
+			index = new RecipeIndex<>(source);
+			indexes.put(type, index);
+		}
+		return (RecipeIndex<R>) index;
+	}
+
+	/**
+	 * @return all the recipes, in the recipe manager order
+	 */
+	public List<R> getRecipes() {
+		return recipes;
+	}
+
+	/**
+	 * Return the recipes that might be crafted from the given inventory slots, in the same order as {@link #getRecipes()}.
+	 * Every recipe needs its first ingredient in one of the slots, so only the recipes indexed by the items
+	 * in these slots are returned. The candidates still have to be tested against all their ingredients.
+	 *
+	 * @param inventory {@link Inventory} The inventory to look for inputs in
+	 * @param slots {@code int[]} The input slots
+	 * @return {@link List} The candidate recipes
+	 */
+	public List<R> getCandidates(Inventory inventory, int[] slots) {
+		int[] single = unconditionalRecipes.length == 0 ? null : unconditionalRecipes;
+		BitSet merged = null;
+
+		for (int slot : slots) {
+			ItemStack stack = inventory.getStack(slot);
+			if (stack.isEmpty()) continue;
+
+			int[] ordinals = recipesByItem.get(stack.getItem());
+			if (ordinals == null || ordinals == single) continue;
+
+			if (single == null) {
+				single = ordinals;
+				continue;
+			}
+
+			if (merged == null) {
+				merged = new BitSet(recipes.size());
+				set(merged, single);
+			}
+			set(merged, ordinals);
+		}
+
+		if (single == null) {
+			return Collections.emptyList();
+		}
+
+		List<R> candidates = new ArrayList<>();
+		if (merged == null) {
+			for (int ordinal : single) {
+				candidates.add(recipes.get(ordinal));
+			}
+		} else {
+			for (int ordinal = merged.nextSetBit(0); ordinal >= 0; ordinal = merged.nextSetBit(ordinal + 1)) {
+				candidates.add(recipes.get(ordinal));
+			}
+		}
+		return candidates;
+	}
+
+	private static void set(BitSet bitSet, int[] ordinals) {
+		for (int ordinal : ordinals) {
+			bitSet.set(ordinal);
+		}
+	}
+
+	/**
+	 * Checks if the stack matches an ingredient of any recipe.
+	 *
+	 * @param stack {@link ItemStack} The stack to test
+	 * @return {@code boolean} If the stack can be used by a recipe
+	 */
+	public boolean isValidInput(ItemStack stack) {
+		List<RebornIngredient> ingredients = ingredientsByItem.get(stack.getItem());
+		if (ingredients == null) {
+			return false;
+		}
+
+		for (RebornIngredient ingredient : ingredients) {
+			if (ingredient.test(stack)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
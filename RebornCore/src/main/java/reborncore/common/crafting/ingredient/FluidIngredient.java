@@ -33,6 +33,7 @@ import net.minecraft.fluid.Fluids;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.recipe.Ingredient;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
@@ -111,6 +112,24 @@ public class FluidIngredient extends RebornIngredient {
 		return new FluidIngredient(fluid, holders, count);
 	}
 
+	static RebornIngredient read(PacketByteBuf buffer) {
+		Fluid fluid = Registry.FLUID.get(buffer.readVarInt());
+
+		Optional<List<Item>> holders = Optional.empty();
+		if (buffer.readBoolean()) {
+			final int size = buffer.readVarInt();
+			List<Item> itemList = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				itemList.add(Item.byRawId(buffer.readVarInt()));
+			}
+			holders = Optional.of(itemList);
+		}
+
+		Optional<Integer> count = readCount(buffer);
+
+		return new FluidIngredient(fluid, holders, count);
+	}
+
 	@Override
 	public boolean test(ItemStack itemStack) {
 		if (holders.isPresent() && holders.get().stream().noneMatch(item -> itemStack.getItem() == item)) {
@@ -153,6 +172,23 @@ public class FluidIngredient extends RebornIngredient {
 		return jsonObject;
 	}
 
+	@Override
+	public void write(PacketByteBuf buffer) {
+		buffer.writeByte(IngredientFactory.FLUID);
+		buffer.writeVarInt(Registry.FLUID.getRawId(fluid));
+
+		buffer.writeBoolean(holders.isPresent());
+		if (holders.isPresent()) {
+			List<Item> holderList = holders.get();
+			buffer.writeVarInt(holderList.size());
+			for (Item item : holderList) {
+				buffer.writeVarInt(Item.getRawId(item));
+			}
+		}
+
+		writeCount(buffer, count);
+	}
+
 	@Override
 	public int getCount() {
 		return count.orElse(1);
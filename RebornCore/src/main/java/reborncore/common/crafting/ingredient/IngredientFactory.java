@@ -27,9 +27,24 @@ package reborncore.common.crafting.ingredient;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import net.minecraft.network.PacketByteBuf;
 import org.jetbrains.annotations.Nullable;
 
 public class IngredientFactory {
+	static final byte STACK = 0;
+	static final byte TAG = 1;
+	static final byte FLUID = 2;
+
+	public static RebornIngredient read(PacketByteBuf buffer) {
+		final byte type = buffer.readByte();
+		return switch (type) {
+			case STACK -> StackIngredient.read(buffer);
+			case TAG -> TagIngredient.read(buffer);
+			case FLUID -> FluidIngredient.read(buffer);
+			default -> throw new UnsupportedOperationException("Unable to determine ingredient type: " + type);
+		};
+	}
+
 	public static RebornIngredient deserialize(@Nullable JsonElement jsonElement) {
 		if (jsonElement == null || !jsonElement.isJsonObject()) {
 			throw new JsonParseException("ingredient must be a json object");
@@ -0,0 +1,269 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.crafting.ingredient;
+
+import net.minecraft.nbt.AbstractNbtNumber;
+import net.minecraft.nbt.NbtByteArray;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtDouble;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtFloat;
+import net.minecraft.nbt.NbtIntArray;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.nbt.NbtLongArray;
+import net.minecraft.nbt.NbtString;
+
+import java.math.BigDecimal;
+
+/**
+ * Matches NBT against an expected element compiled once, without converting or copying the tested element.
+ * <p>
+ * Ingredient NBT is read from json, so the numeric types of the expected element are the smallest ones that fit the
+ * values, while stacks usually use the type of the code that wrote them. Numbers and lists are therefore compared by
+ * value the same way they would be after a round trip through json, ignoring their NBT types.
+ */
+abstract class NbtMatcher {
+
+	abstract boolean test(NbtElement element);
+
+	boolean testInteger(long value) {
+		return false;
+	}
+
+	static NbtMatcher compile(NbtElement expected) {
+		if (expected instanceof NbtCompound compound) {
+			String[] keys = compound.getKeys().toArray(String[]::new);
+			NbtMatcher[] values = new NbtMatcher[keys.length];
+			for (int i = 0; i < keys.length; i++) {
+				values[i] = compile(compound.get(keys[i]));
+			}
+			return new CompoundMatcher(keys, values);
+		}
+
+		if (expected instanceof NbtByteArray array) {
+			byte[] values = array.getByteArray();
+			NbtMatcher[] elements = new NbtMatcher[values.length];
+			for (int i = 0; i < values.length; i++) {
+				elements[i] = new NumberMatcher(values[i]);
+			}
+			return new ListMatcher(elements);
+		}
+
+		if (expected instanceof NbtIntArray array) {
+			int[] values = array.getIntArray();
+			NbtMatcher[] elements = new NbtMatcher[values.length];
+			for (int i = 0; i < values.length; i++) {
+				elements[i] = new NumberMatcher(values[i]);
+			}
+			return new ListMatcher(elements);
+		}
+
+		if (expected instanceof NbtLongArray array) {
+			long[] values = array.getLongArray();
+			NbtMatcher[] elements = new NbtMatcher[values.length];
+			for (int i = 0; i < values.length; i++) {
+				elements[i] = new NumberMatcher(values[i]);
+			}
+			return new ListMatcher(elements);
+		}
+
+		if (expected instanceof NbtList list) {
+			NbtMatcher[] elements = new NbtMatcher[list.size()];
+			for (int i = 0; i < elements.length; i++) {
+				elements[i] = compile(list.get(i));
+			}
+			return new ListMatcher(elements);
+		}
+
+		if (expected instanceof AbstractNbtNumber number) {
+			return new NumberMatcher(number.numberValue());
+		}
+
+		if (expected instanceof NbtString string) {
+			return new StringMatcher(string.asString());
+		}
+
+		return new EqualsMatcher(expected);
+	}
+
+	/**
+	 * Converts a number the same way json does: a long if it is an exact integer, a double otherwise.
+	 */
+	private static Number normalize(Number number) {
+		String decimal = number.toString();
+		try {
+			BigDecimal value = new BigDecimal(decimal);
+			try {
+				return value.longValueExact();
+			} catch (ArithmeticException e) {
+				return value.doubleValue();
+			}
+		} catch (NumberFormatException e) {
+			// NaN or infinite
+			return Double.parseDouble(decimal);
+		}
+	}
+
+	private static final class CompoundMatcher extends NbtMatcher {
+		private final String[] keys;
+		private final NbtMatcher[] values;
+
+		private CompoundMatcher(String[] keys, NbtMatcher[] values) {
+			this.keys = keys;
+			this.values = values;
+		}
+
+		@Override
+		boolean test(NbtElement element) {
+			if (!(element instanceof NbtCompound compound) || compound.getSize() != keys.length) {
+				return false;
+			}
+
+			for (int i = 0; i < keys.length; i++) {
+				NbtElement value = compound.get(keys[i]);
+				if (value == null || !values[i].test(value)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Lists and numeric arrays are the same thing once converted to json.
+	 */
+	private static final class ListMatcher extends NbtMatcher {
+		private final NbtMatcher[] elements;
+
+		private ListMatcher(NbtMatcher[] elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		boolean test(NbtElement element) {
+			if (element instanceof NbtList list) {
+				if (list.size() != elements.length) return false;
+				for (int i = 0; i < elements.length; i++) {
+					if (!elements[i].test(list.get(i))) return false;
+				}
+				return true;
+			}
+
+			if (element instanceof NbtByteArray array) {
+				byte[] values = array.getByteArray();
+				if (values.length != elements.length) return false;
+				for (int i = 0; i < elements.length; i++) {
+					if (!elements[i].testInteger(values[i])) return false;
+				}
+				return true;
+			}
+
+			if (element instanceof NbtIntArray array) {
+				int[] values = array.getIntArray();
+				if (values.length != elements.length) return false;
+				for (int i = 0; i < elements.length; i++) {
+					if (!elements[i].testInteger(values[i])) return false;
+				}
+				return true;
+			}
+
+			if (element instanceof NbtLongArray array) {
+				long[] values = array.getLongArray();
+				if (values.length != elements.length) return false;
+				for (int i = 0; i < elements.length; i++) {
+					if (!elements[i].testInteger(values[i])) return false;
+				}
+				return true;
+			}
+
+			return false;
+		}
+	}
+
+	private static final class NumberMatcher extends NbtMatcher {
+		private final boolean integer;
+		private final long longValue;
+		// The only float and double that normalize to the expected value, if any.
+		private final float floatValue;
+		private final boolean matchesFloat;
+		private final double doubleValue;
+		private final boolean matchesDouble;
+
+		private NumberMatcher(Number expected) {
+			Number normalized = normalize(expected);
+			integer = normalized instanceof Long;
+			longValue = normalized.longValue();
+			floatValue = integer ? (float) longValue : normalized.floatValue();
+			doubleValue = integer ? (double) longValue : normalized.doubleValue();
+			matchesFloat = normalize(floatValue).equals(normalized);
+			matchesDouble = normalize(doubleValue).equals(normalized);
+		}
+
+		@Override
+		boolean test(NbtElement element) {
+			if (element instanceof NbtFloat nbtFloat) {
+				return matchesFloat && nbtFloat.floatValue() == floatValue;
+			}
+			if (element instanceof NbtDouble nbtDouble) {
+				return matchesDouble && nbtDouble.doubleValue() == doubleValue;
+			}
+			if (element instanceof AbstractNbtNumber number) {
+				return testInteger(number.longValue());
+			}
+			return false;
+		}
+
+		@Override
+		boolean testInteger(long value) {
+			return integer && value == longValue;
+		}
+	}
+
+	private static final class StringMatcher extends NbtMatcher {
+		private final String value;
+
+		private StringMatcher(String value) {
+			this.value = value;
+		}
+
+		@Override
+		boolean test(NbtElement element) {
+			return element instanceof NbtString string && value.equals(string.asString());
+		}
+	}
+
+	private static final class EqualsMatcher extends NbtMatcher {
+		private final NbtElement value;
+
+		private EqualsMatcher(NbtElement value) {
+			this.value = value;
+		}
+
+		@Override
+		boolean test(NbtElement element) {
+			return value.equals(element);
+		}
+	}
+}
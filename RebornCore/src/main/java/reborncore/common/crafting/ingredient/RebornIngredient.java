@@ -25,10 +25,14 @@
 package reborncore.common.crafting.ingredient;
 
 import com.google.gson.JsonObject;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.recipe.Ingredient;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 public abstract class RebornIngredient implements Predicate<ItemStack> {
@@ -39,7 +43,30 @@ public abstract class RebornIngredient implements Predicate<ItemStack> {
 
 	public abstract List<ItemStack> getPreviewStacks();
 
+	/**
+	 * @return {@link Collection} The items that can match this ingredient, used to index recipes by their inputs
+	 */
+	public Collection<Item> getMatchingItems() {
+		return getPreviewStacks().stream().map(ItemStack::getItem).toList();
+	}
+
 	public abstract JsonObject toJson(boolean networkSync);
 
+	/**
+	 * Writes this ingredient for network sync, starting with its type. Read back with {@link IngredientFactory#read(PacketByteBuf)}.
+	 *
+	 * @param buffer {@link PacketByteBuf} The buffer to write to
+	 */
+	public abstract void write(PacketByteBuf buffer);
+
+	protected static void writeCount(PacketByteBuf buffer, Optional<Integer> count) {
+		buffer.writeBoolean(count.isPresent());
+		count.ifPresent(buffer::writeVarInt);
+	}
+
+	protected static Optional<Integer> readCount(PacketByteBuf buffer) {
+		return buffer.readBoolean() ? Optional.of(buffer.readVarInt()) : Optional.empty();
+	}
+
 	public abstract int getCount();
 }
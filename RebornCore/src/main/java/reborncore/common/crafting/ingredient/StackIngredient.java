@@ -24,7 +24,6 @@
 
 package reborncore.common.crafting.ingredient;
 
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import com.mojang.serialization.Dynamic;
@@ -33,12 +32,14 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtOps;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.recipe.Ingredient;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import net.minecraft.util.registry.Registry;
 import org.apache.commons.lang3.Validate;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -50,12 +51,14 @@ public class StackIngredient extends RebornIngredient {
 
 	private final Optional<Integer> count;
 	private final Optional<NbtCompound> nbt;
+	private final Optional<NbtMatcher> nbtMatcher;
 	private final boolean requireEmptyNbt;
 
 	public StackIngredient(ItemStack stack, Optional<Integer> count, Optional<NbtCompound> nbt, boolean requireEmptyNbt) {
 		this.stack = stack;
 		this.count = Objects.requireNonNull(count);
 		this.nbt = Objects.requireNonNull(nbt);
+		this.nbtMatcher = nbt.map(NbtMatcher::compile);
 		this.requireEmptyNbt = requireEmptyNbt;
 		Validate.isTrue(!stack.isEmpty(), "ingredient must not empty");
 	}
@@ -85,6 +88,15 @@ public class StackIngredient extends RebornIngredient {
 		return new StackIngredient(new ItemStack(item), stackSize, tag, requireEmptyTag);
 	}
 
+	static RebornIngredient read(PacketByteBuf buffer) {
+		Item item = Item.byRawId(buffer.readVarInt());
+		Optional<Integer> stackSize = readCount(buffer);
+		boolean requireEmptyTag = buffer.readBoolean();
+		Optional<NbtCompound> tag = Optional.ofNullable(buffer.readNbt());
+
+		return new StackIngredient(new ItemStack(item), stackSize, tag, requireEmptyTag);
+	}
+
 
 	@Override
 	public boolean test(ItemStack itemStack) {
@@ -100,19 +112,14 @@ public class StackIngredient extends RebornIngredient {
 			return false;
 		}
 
-		if (nbt.isPresent()) {
+		if (nbtMatcher.isPresent()) {
 			if (!itemStack.hasNbt()) {
 				return false;
 			}
 
 			// A bit of a meme here, as DataFixer likes to use the most basic primitive type over using an int.
-			// So we have to go to json and back on the incoming stack to be sure it's using types that match our input.
-
-			NbtCompound compoundTag = itemStack.getNbt();
-			JsonElement jsonElement = Dynamic.convert(NbtOps.INSTANCE, JsonOps.INSTANCE, compoundTag);
-			compoundTag = (NbtCompound) Dynamic.convert(JsonOps.INSTANCE, NbtOps.INSTANCE, jsonElement);
-
-			if (!nbt.get().equals(compoundTag)) {
+			// So the matcher compares numbers by value, as if the incoming stack had gone to json and back.
+			if (!nbtMatcher.get().test(itemStack.getNbt())) {
 				return false;
 			}
 		}
@@ -133,6 +140,11 @@ public class StackIngredient extends RebornIngredient {
 		return Collections.singletonList(copy);
 	}
 
+	@Override
+	public Collection<Item> getMatchingItems() {
+		return Collections.singletonList(stack.getItem());
+	}
+
 	@Override
 	public JsonObject toJson(boolean networkSync) {
 		JsonObject jsonObject = new JsonObject();
@@ -149,6 +161,15 @@ public class StackIngredient extends RebornIngredient {
 		return jsonObject;
 	}
 
+	@Override
+	public void write(PacketByteBuf buffer) {
+		buffer.writeByte(IngredientFactory.STACK);
+		buffer.writeVarInt(Item.getRawId(stack.getItem()));
+		writeCount(buffer, count);
+		buffer.writeBoolean(requireEmptyNbt);
+		buffer.writeNbt(requireEmptyNbt ? null : nbt.orElse(null));
+	}
+
 	@Override
 	public int getCount() {
 		return count.orElse(1);
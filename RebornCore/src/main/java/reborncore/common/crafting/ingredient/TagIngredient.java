@@ -28,6 +28,7 @@ import com.google.gson.JsonObject;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.recipe.Ingredient;
 import net.minecraft.tag.TagKey;
 import net.minecraft.util.Identifier;
@@ -37,6 +38,7 @@ import net.minecraft.util.registry.RegistryEntry;
 import org.apache.commons.lang3.Validate;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -71,6 +73,11 @@ public class TagIngredient extends RebornIngredient {
 		return streamItems().map(ItemStack::new).peek(itemStack -> itemStack.setCount(count.orElse(1))).collect(Collectors.toList());
 	}
 
+	@Override
+	public Collection<Item> getMatchingItems() {
+		return streamItems().toList();
+	}
+
 	public static RebornIngredient deserialize(JsonObject json) {
 		Optional<Integer> count = Optional.empty();
 		if (json.has("count")) {
@@ -123,6 +130,35 @@ public class TagIngredient extends RebornIngredient {
 		return jsonObject;
 	}
 
+	static RebornIngredient read(PacketByteBuf buffer) {
+		Identifier tagIdent = buffer.readIdentifier();
+		Optional<Integer> count = readCount(buffer);
+
+		final int size = buffer.readVarInt();
+		List<Item> items = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			Item item = Item.byRawId(buffer.readVarInt());
+			Validate.isTrue(item != Items.AIR, "item cannot be air");
+			items.add(item);
+		}
+
+		return new Synced(TagKey.of(Registry.ITEM_KEY, tagIdent), count, items);
+	}
+
+	@Override
+	public void write(PacketByteBuf buffer) {
+		// Tags are not synced across the server, so we sync all the items
+		buffer.writeByte(IngredientFactory.TAG);
+		buffer.writeIdentifier(tag.id());
+		writeCount(buffer, count);
+
+		Item[] items = streamItems().toArray(Item[]::new);
+		buffer.writeVarInt(items.length);
+		for (Item item : items) {
+			buffer.writeVarInt(Item.getRawId(item));
+		}
+	}
+
 	protected Stream<Item> streamItems() {
 		return StreamSupport.stream(Registry.ITEM.iterateEntries(tag).spliterator(), false)
 			.map(RegistryEntry::value);
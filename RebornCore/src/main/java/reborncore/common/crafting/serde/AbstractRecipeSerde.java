@@ -30,7 +30,9 @@ import com.mojang.serialization.Dynamic;
 import com.mojang.serialization.JsonOps;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtOps;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.JsonHelper;
+import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.registry.Registry;
 import reborncore.common.crafting.RebornRecipe;
 import reborncore.common.crafting.RecipeUtils;
@@ -61,6 +63,28 @@ public abstract class AbstractRecipeSerde<R extends RebornRecipe> implements Rec
 		return RecipeUtils.deserializeItems(resultsJson);
 	}
 
+	protected List<RebornIngredient> readIngredients(PacketByteBuf buffer) {
+		final int size = buffer.readVarInt();
+		final DefaultedList<RebornIngredient> ingredients = DefaultedList.of();
+
+		for (int i = 0; i < size; i++) {
+			ingredients.add(IngredientFactory.read(buffer));
+		}
+
+		return ingredients;
+	}
+
+	protected List<ItemStack> readOutputs(PacketByteBuf buffer) {
+		final int size = buffer.readVarInt();
+		final DefaultedList<ItemStack> outputs = DefaultedList.ofSize(size, ItemStack.EMPTY);
+
+		for (int i = 0; i < size; i++) {
+			outputs.set(i, buffer.readItemStack());
+		}
+
+		return outputs;
+	}
+
 	protected void writeIngredients(R recipe, JsonObject jsonObject, boolean networkSync) {
 		final JsonArray ingredientsArray = new JsonArray();
 		recipe.getRebornIngredients().stream().map(ingredient -> ingredient.toJson(networkSync)).forEach(ingredientsArray::add);
@@ -87,6 +111,24 @@ public abstract class AbstractRecipeSerde<R extends RebornRecipe> implements Rec
 		jsonObject.add("results", resultsArray);
 	}
 
+	protected void writeIngredients(R recipe, PacketByteBuf buffer) {
+		final List<RebornIngredient> ingredients = recipe.getRebornIngredients();
+		buffer.writeVarInt(ingredients.size());
+
+		for (RebornIngredient ingredient : ingredients) {
+			ingredient.write(buffer);
+		}
+	}
+
+	protected void writeOutputs(R recipe, PacketByteBuf buffer) {
+		final List<ItemStack> outputs = recipe.getOutputs();
+		buffer.writeVarInt(outputs.size());
+
+		for (ItemStack stack : outputs) {
+			buffer.writeItemStack(stack);
+		}
+	}
+
 	protected void writePower(R recipe, JsonObject jsonObject) {
 		jsonObject.addProperty("power", recipe.getPower());
 	}
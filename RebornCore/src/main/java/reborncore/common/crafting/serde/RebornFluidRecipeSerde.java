@@ -27,6 +27,7 @@ package reborncore.common.crafting.serde;
 import com.google.gson.JsonObject;
 import net.minecraft.fluid.Fluid;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import net.minecraft.util.registry.Registry;
@@ -70,12 +71,35 @@ public abstract class RebornFluidRecipeSerde<R extends RebornFluidRecipe> extend
 		jsonObject.add("tank", tankObject);
 	}
 
+	protected abstract R fromPacket(PacketByteBuf buffer, RebornRecipeType<R> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time, @NotNull FluidInstance fluidInstance);
+
+	@Override
+	protected final R fromPacket(PacketByteBuf buffer, RebornRecipeType<R> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time) {
+		final Fluid fluid = Registry.FLUID.get(buffer.readVarInt());
+		final FluidValue value = FluidValue.fromRaw(buffer.readVarLong());
+
+		FluidInstance fluidInstance = new FluidInstance(fluid, value);
+
+		return fromPacket(buffer, type, name, ingredients, outputs, power, time, fluidInstance);
+	}
+
+	@Override
+	public void collectPacketData(R recipe, PacketByteBuf buffer) {
+		buffer.writeVarInt(Registry.FLUID.getRawId(recipe.getFluidInstance().getFluid()));
+		buffer.writeVarLong(recipe.getFluidInstance().getAmount().getRawValue());
+	}
+
 	public static <R extends RebornFluidRecipe> RebornFluidRecipeSerde<R> create(SimpleFluidRecipeFactory<R> factory) {
 		return new RebornFluidRecipeSerde<>() {
 			@Override
 			protected R fromJson(JsonObject jsonObject, RebornRecipeType<R> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time, @NotNull FluidInstance fluidInstance) {
 				return factory.create(type, name, ingredients, outputs, power, time, fluidInstance);
 			}
+
+			@Override
+			protected R fromPacket(PacketByteBuf buffer, RebornRecipeType<R> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time, @NotNull FluidInstance fluidInstance) {
+				return factory.create(type, name, ingredients, outputs, power, time, fluidInstance);
+			}
 		};
 	}
 
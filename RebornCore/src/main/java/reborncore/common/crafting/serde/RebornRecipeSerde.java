@@ -26,6 +26,7 @@ package reborncore.common.crafting.serde;
 
 import com.google.gson.JsonObject;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import reborncore.common.crafting.RebornRecipe;
 import reborncore.common.crafting.RebornRecipeType;
@@ -60,6 +61,30 @@ public abstract class RebornRecipeSerde<R extends RebornRecipe> extends Abstract
 		collectJsonData(recipe, jsonObject, networkSync);
 	}
 
+	protected abstract R fromPacket(PacketByteBuf buffer, RebornRecipeType<R> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time);
+
+	@Override
+	public final R fromPacket(PacketByteBuf buffer, RebornRecipeType<R> type, Identifier name) {
+		final int power = buffer.readVarInt();
+		final int time = buffer.readVarInt();
+		final List<RebornIngredient> ingredients = readIngredients(buffer);
+		final List<ItemStack> outputs = readOutputs(buffer);
+
+		return fromPacket(buffer, type, name, ingredients, outputs, power, time);
+	}
+
+	protected abstract void collectPacketData(R recipe, PacketByteBuf buffer);
+
+	@Override
+	public final void toPacket(R recipe, PacketByteBuf buffer) {
+		buffer.writeVarInt(recipe.getPower());
+		buffer.writeVarInt(recipe.getTime());
+		writeIngredients(recipe, buffer);
+		writeOutputs(recipe, buffer);
+
+		collectPacketData(recipe, buffer);
+	}
+
 	public static <R extends RebornRecipe> RebornRecipeSerde<R> create(SimpleRecipeFactory<R> factory) {
 		return new RebornRecipeSerde<R>() {
 			@Override
@@ -70,6 +95,15 @@ public abstract class RebornRecipeSerde<R extends RebornRecipe> extends Abstract
 			@Override
 			protected void collectJsonData(R recipe, JsonObject jsonObject, boolean networkSync) {
 			}
+
+			@Override
+			protected R fromPacket(PacketByteBuf buffer, RebornRecipeType<R> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time) {
+				return factory.create(type, name, ingredients, outputs, power, time);
+			}
+
+			@Override
+			protected void collectPacketData(R recipe, PacketByteBuf buffer) {
+			}
 		};
 	}
 
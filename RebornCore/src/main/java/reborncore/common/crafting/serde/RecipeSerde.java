@@ -25,6 +25,7 @@
 package reborncore.common.crafting.serde;
 
 import com.google.gson.JsonObject;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import reborncore.common.crafting.RebornRecipe;
 import reborncore.common.crafting.RebornRecipeType;
@@ -33,4 +34,8 @@ public interface RecipeSerde<R extends RebornRecipe> {
 	R fromJson(JsonObject jsonObject, RebornRecipeType<R> type, Identifier name);
 
 	void toJson(R recipe, JsonObject jsonObject, boolean networkSync);
+
+	R fromPacket(PacketByteBuf buffer, RebornRecipeType<R> type, Identifier name);
+
+	void toPacket(R recipe, PacketByteBuf buffer);
 }
@@ -0,0 +1,62 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package reborncore.common.explosion;
+
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Continues {@link RebornExplosion}s that ran out of their tick budget at the end of each world tick.
+ */
+public final class ExplosionScheduler {
+	private static final Map<World, List<RebornExplosion>> PENDING = new HashMap<>();
+
+	private ExplosionScheduler() {
+	}
+
+	static void schedule(RebornExplosion explosion) {
+		PENDING.computeIfAbsent(explosion.world, world -> new ArrayList<>()).add(explosion);
+	}
+
+	public static void onServerWorldTick(ServerWorld world) {
+		List<RebornExplosion> explosions = PENDING.get(world);
+		if (explosions == null || explosions.isEmpty()) {
+			return;
+		}
+
+		// Only the oldest explosion runs so that the budget is not multiplied by the amount of explosions.
+		if (explosions.get(0).tick()) {
+			explosions.remove(0);
+		}
+	}
+
+	public static void onWorldUnload(World world) {
+		PENDING.remove(world);
+	}
+}
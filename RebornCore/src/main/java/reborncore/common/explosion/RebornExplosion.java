@@ -24,26 +24,43 @@
 
 package reborncore.common.explosion;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.server.world.ServerChunkManager;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.Heightmap;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.chunk.light.LightingProvider;
 import net.minecraft.world.explosion.Explosion;
-import org.apache.commons.lang3.time.StopWatch;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import reborncore.RebornCore;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Created by modmuss50 on 12/03/2016.
+ *
+ * <p>Removes every block inside a sphere of {@code radius - 2} around the center. The world is edited one chunk
+ * section at a time, lighting and neighbor updates are applied once per section to the blocks on the surface of the
+ * sphere only. Use {@link #applyExplosion(long)} to spread the work over multiple ticks.
  */
 public class RebornExplosion extends Explosion {
 
+	private static final Heightmap.Type[] HEIGHTMAPS = {
+		Heightmap.Type.MOTION_BLOCKING,
+		Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
+		Heightmap.Type.OCEAN_FLOOR,
+		Heightmap.Type.WORLD_SURFACE
+	};
+
 	@NotNull
 	BlockPos center;
 
@@ -56,6 +73,12 @@ public class RebornExplosion extends Explosion {
 	@Nullable
 	LivingEntity livingBase;
 
+	private final int sphereRadius;
+	private final int[] columnHeights;
+	private long[] sections;
+	private int nextSection;
+	private long tickBudget;
+
 	public RebornExplosion(
 		@NotNull
 			BlockPos center,
@@ -67,6 +90,67 @@ public class RebornExplosion extends Explosion {
 		this.center = center;
 		this.world = world;
 		this.radius = radius;
+		this.sphereRadius = radius - 2;
+		this.columnHeights = createSphereMask(sphereRadius);
+	}
+
+	/**
+	 * Computes the highest vertical offset inside the sphere for every column, or -1 for columns outside of it.
+	 */
+	private static int[] createSphereMask(int sphereRadius) {
+		if (sphereRadius < 0) {
+			return new int[0];
+		}
+		final int diameter = sphereRadius * 2 + 1;
+		final int radiusSq = sphereRadius * sphereRadius;
+		int[] heights = new int[diameter * diameter];
+		for (int dx = -sphereRadius; dx <= sphereRadius; dx++) {
+			for (int dz = -sphereRadius; dz <= sphereRadius; dz++) {
+				int remaining = radiusSq - dx * dx - dz * dz;
+				int height = -1;
+				while ((height + 1) * (height + 1) <= remaining) {
+					height++;
+				}
+				heights[(dx + sphereRadius) * diameter + dz + sphereRadius] = height;
+			}
+		}
+		return heights;
+	}
+
+	private int getColumnHeight(int dx, int dz) {
+		if (dx < -sphereRadius || dx > sphereRadius || dz < -sphereRadius || dz > sphereRadius) {
+			return -1;
+		}
+		return columnHeights[(dx + sphereRadius) * (sphereRadius * 2 + 1) + dz + sphereRadius];
+	}
+
+	private boolean isOnSurface(int dx, int dy, int dz) {
+		final int absY = Math.abs(dy);
+		return absY == getColumnHeight(dx, dz)
+			|| getColumnHeight(dx - 1, dz) < absY
+			|| getColumnHeight(dx + 1, dz) < absY
+			|| getColumnHeight(dx, dz - 1) < absY
+			|| getColumnHeight(dx, dz + 1) < absY;
+	}
+
+	private long[] collectSections() {
+		if (sphereRadius < 0) {
+			return new long[0];
+		}
+		LongArrayList list = new LongArrayList();
+		final int minY = Math.max(center.getY() - sphereRadius, world.getBottomY());
+		final int maxY = Math.min(center.getY() + sphereRadius, world.getTopY() - 1);
+		if (minY > maxY) {
+			return new long[0];
+		}
+		for (int x = ChunkSectionPos.getSectionCoord(center.getX() - sphereRadius); x <= ChunkSectionPos.getSectionCoord(center.getX() + sphereRadius); x++) {
+			for (int z = ChunkSectionPos.getSectionCoord(center.getZ() - sphereRadius); z <= ChunkSectionPos.getSectionCoord(center.getZ() + sphereRadius); z++) {
+				for (int y = ChunkSectionPos.getSectionCoord(maxY); y >= ChunkSectionPos.getSectionCoord(minY); y--) {
+					list.add(ChunkSectionPos.asLong(x, y, z));
+				}
+			}
+		}
+		return list.toLongArray();
 	}
 
 	public void setLivingBase(
@@ -81,25 +165,139 @@ public class RebornExplosion extends Explosion {
 		return livingBase;
 	}
 
+	/**
+	 * Removes all blocks of the explosion at once.
+	 */
 	public void applyExplosion() {
-		StopWatch watch = new StopWatch();
-		watch.start();
-		for (int tx = -radius; tx < radius + 1; tx++) {
-			for (int ty = -radius; ty < radius + 1; ty++) {
-				for (int tz = -radius; tz < radius + 1; tz++) {
-					if (Math.sqrt(Math.pow(tx, 2) + Math.pow(ty, 2) + Math.pow(tz, 2)) <= radius - 2) {
-						BlockPos pos = center.add(tx, ty, tz);
-						BlockState state = world.getBlockState(pos);
-						Block block = state.getBlock();
-						if (block != Blocks.BEDROCK && !state.isAir()) {
-							block.onDestroyedByExplosion(world, pos, this);
-							world.setBlockState(pos, Blocks.AIR.getDefaultState(), 3);
-						}
+		applyExplosion(0);
+	}
+
+	/**
+	 * Removes the blocks of the explosion, spending at most the given time per tick. The remaining sections are
+	 * processed at the end of the following world ticks.
+	 *
+	 * @param tickBudget {@code long} Nanoseconds the explosion may spend per tick, 0 or less to explode at once
+	 */
+	public void applyExplosion(long tickBudget) {
+		if (!(world instanceof ServerWorld) || sections != null) {
+			return;
+		}
+		this.sections = collectSections();
+		this.tickBudget = tickBudget > 0 ? tickBudget : Long.MAX_VALUE;
+		if (!tick()) {
+			ExplosionScheduler.schedule(this);
+		}
+	}
+
+	/**
+	 * Processes sections until the tick budget is used up.
+	 *
+	 * @return {@code boolean} If the explosion is finished
+	 */
+	boolean tick() {
+		final long start = System.nanoTime();
+		world.getProfiler().push("rebornExplosion");
+		try {
+			while (nextSection < sections.length) {
+				explodeSection(sections[nextSection++]);
+				if (System.nanoTime() - start >= tickBudget) {
+					break;
+				}
+			}
+		} finally {
+			world.getProfiler().pop();
+		}
+		return isFinished();
+	}
+
+	private void explodeSection(long sectionPos) {
+		final int sectionX = ChunkSectionPos.unpackX(sectionPos);
+		final int sectionY = ChunkSectionPos.unpackY(sectionPos);
+		final int sectionZ = ChunkSectionPos.unpackZ(sectionPos);
+		final int minX = Math.max(ChunkSectionPos.getBlockCoord(sectionX), center.getX() - sphereRadius);
+		final int maxX = Math.min(ChunkSectionPos.getBlockCoord(sectionX) + 15, center.getX() + sphereRadius);
+		final int minZ = Math.max(ChunkSectionPos.getBlockCoord(sectionZ), center.getZ() - sphereRadius);
+		final int maxZ = Math.min(ChunkSectionPos.getBlockCoord(sectionZ) + 15, center.getZ() + sphereRadius);
+		final int sectionMinY = ChunkSectionPos.getBlockCoord(sectionY);
+
+		ServerWorld serverWorld = (ServerWorld) world;
+		WorldChunk chunk = serverWorld.getChunk(sectionX, sectionZ);
+		ChunkSection section = chunk.getSection(chunk.sectionCoordToIndex(sectionY));
+		if (section.isEmpty()) {
+			return;
+		}
+
+		final BlockState air = Blocks.AIR.getDefaultState();
+		final ServerChunkManager chunkManager = serverWorld.getChunkManager();
+		final LongArrayList lightUpdates = new LongArrayList();
+		final LongArrayList neighborUpdates = new LongArrayList();
+		final BlockPos.Mutable pos = new BlockPos.Mutable();
+		boolean changed = false;
+
+		for (int x = minX; x <= maxX; x++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				final int dx = x - center.getX();
+				final int dz = z - center.getZ();
+				final int height = getColumnHeight(dx, dz);
+				if (height < 0) {
+					continue;
+				}
+				final int minY = Math.max(sectionMinY, center.getY() - height);
+				final int maxY = Math.min(sectionMinY + 15, center.getY() + height);
+				for (int y = minY; y <= maxY; y++) {
+					BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+					Block block = state.getBlock();
+					if (block == Blocks.BEDROCK || state.isAir()) {
+						continue;
+					}
+					pos.set(x, y, z);
+					block.onDestroyedByExplosion(world, pos, this);
+
+					if (state.hasBlockEntity()) {
+						// Block entities need the full removal logic
+						world.setBlockState(pos, air, Block.NOTIFY_ALL);
+						continue;
+					}
+
+					section.setBlockState(x & 15, y & 15, z & 15, air);
+					for (Heightmap.Type type : HEIGHTMAPS) {
+						chunk.getHeightmap(type).trackUpdate(x & 15, y, z & 15, air);
+					}
+					// Keeps points of interest and the multiblock index up to date
+					world.onBlockChanged(pos, state, air);
+					chunkManager.markForUpdate(pos);
+					changed = true;
+
+					final boolean surface = isOnSurface(dx, y - center.getY(), dz);
+					if (surface || state.getLuminance() > 0) {
+						lightUpdates.add(pos.asLong());
+					}
+					if (surface) {
+						neighborUpdates.add(pos.asLong());
 					}
 				}
 			}
 		}
-		RebornCore.LOGGER.info("The explosion took" + watch + " to explode");
+
+		if (changed) {
+			chunk.setShouldSave(true);
+			LightingProvider lightingProvider = chunkManager.getLightingProvider();
+			if (section.isEmpty()) {
+				lightingProvider.setSectionStatus(ChunkSectionPos.from(sectionX, sectionY, sectionZ), true);
+			}
+			for (int i = 0; i < lightUpdates.size(); i++) {
+				lightingProvider.checkBlock(pos.set(lightUpdates.getLong(i)));
+			}
+			for (int i = 0; i < neighborUpdates.size(); i++) {
+				pos.set(neighborUpdates.getLong(i));
+				world.updateNeighborsAlways(pos, Blocks.AIR);
+				air.updateNeighbors(world, pos, Block.NOTIFY_ALL);
+			}
+		}
+	}
+
+	public boolean isFinished() {
+		return sections != null && nextSection >= sections.length;
 	}
 
 	@Override
@@ -122,16 +320,15 @@ public class RebornExplosion extends Explosion {
 	@Override
 	public List<BlockPos> getAffectedBlocks() {
 		List<BlockPos> poses = new ArrayList<>();
-		for (int tx = -radius; tx < radius + 1; tx++) {
-			for (int ty = -radius; ty < radius + 1; ty++) {
-				for (int tz = -radius; tz < radius + 1; tz++) {
-					if (Math.sqrt(Math.pow(tx, 2) + Math.pow(ty, 2) + Math.pow(tz, 2)) <= radius - 2) {
-						BlockPos pos = center.add(tx, ty, tz);
-						BlockState state = world.getBlockState(pos);
-						Block block = state.getBlock();
-						if (block != Blocks.BEDROCK && !state.isAir()) {
-							poses.add(pos);
-						}
+		for (int dx = -sphereRadius; dx <= sphereRadius; dx++) {
+			for (int dz = -sphereRadius; dz <= sphereRadius; dz++) {
+				final int height = getColumnHeight(dx, dz);
+				for (int dy = -height; dy <= height; dy++) {
+					BlockPos pos = center.add(dx, dy, dz);
+					BlockState state = world.getBlockState(pos);
+					Block block = state.getBlock();
+					if (block != Blocks.BEDROCK && !state.isAir()) {
+						poses.add(pos);
 					}
 				}
 			}
@@ -24,16 +24,22 @@
 
 package reborncore.common.multiblock;
 
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.WorldChunk;
 import reborncore.RebornCore;
 import reborncore.common.util.WorldUtils;
 
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.Set;
 
 /**
@@ -61,6 +67,18 @@ public abstract class MultiblockControllerBase {
 
 	public HashSet<IMultiblockPart> connectedParts;
 
+	/**
+	 * The connected parts by their packed position, used to walk the structure
+	 * without looking up block entities.
+	 */
+	private final Long2ObjectOpenHashMap<IMultiblockPart> partsByPosition;
+
+	/**
+	 * Packed positions of the parts removed since the last check for
+	 * disconnections. Only their neighbors can have been disconnected.
+	 */
+	private final LongArrayList removedPositions;
+
 	/**
 	 * This is a deterministically-picked coordinate that identifies this
 	 * multiblock uniquely in its dimension. Currently, this is the coord with
@@ -99,6 +117,8 @@ public abstract class MultiblockControllerBase {
 		// Multiblock stuff
 		worldObj = world;
 		connectedParts = new HashSet<>();
+		partsByPosition = new Long2ObjectOpenHashMap<>();
+		removedPositions = new LongArrayList();
 
 		referenceCoord = null;
 		assemblyState = AssemblyState.Disassembled;
@@ -138,7 +158,7 @@ public abstract class MultiblockControllerBase {
 	 * machine, false otherwise.
 	 */
 	public boolean hasBlock(BlockPos blockCoord) {
-		return connectedParts.contains(blockCoord);
+		return partsByPosition.containsKey(blockCoord.asLong());
 	}
 
 	/**
@@ -155,6 +175,7 @@ public abstract class MultiblockControllerBase {
 				String.format("[%s] Controller %s is double-adding part %d @ %s. This is unusual. If you encounter odd behavior, please tear down the machine and rebuild it.",
 					(worldObj.isClient ? "CLIENT" : "SERVER"), hashCode(), part.hashCode(), coord));
 		}
+		partsByPosition.put(coord.asLong(), part);
 
 		part.onAttached(this);
 		this.onBlockAdded(part);
@@ -291,6 +312,7 @@ public abstract class MultiblockControllerBase {
 
 		// Strip out this part
 		onDetachBlock(part);
+		removePosition(part);
 		if (!connectedParts.remove(part)) {
 			RebornCore.LOGGER.warn(
 				String.format("[%s] Double-removing part (%d) @ %d, %d, %d, this is unexpected and may cause problems. If you encounter anomalies, please tear down the reactor and rebuild it.",
@@ -483,6 +505,7 @@ public abstract class MultiblockControllerBase {
 			}
 
 			connectedParts.add(acquiredPart);
+			partsByPosition.put(acquiredPart.getWorldLocation().asLong(), acquiredPart);
 			acquiredPart.onAssimilated(this);
 			this.onBlockAdded(acquiredPart);
 		}
@@ -509,6 +532,8 @@ public abstract class MultiblockControllerBase {
 		this.referenceCoord = null;
 
 		connectedParts.clear();
+		partsByPosition.clear();
+		removedPositions.clear();
 	}
 
 	/**
@@ -857,6 +882,7 @@ public abstract class MultiblockControllerBase {
 		for (IMultiblockPart part : connectedParts) {
 			if (part.isInvalid() || worldObj.getBlockEntity(part.getPos()) != part) {
 				onDetachBlock(part);
+				removePosition(part);
 				deadParts.add(part);
 			}
 		}
@@ -868,7 +894,7 @@ public abstract class MultiblockControllerBase {
 
 	/**
 	 * Called when this machine may need to check for blocks that are no longer
-	 * physically connected to the reference coordinate.
+	 * physically connected to the rest of the machine.
 	 *
 	 * @return {@link Set} Set with removed {@link IMultiblockPart}s.
 	 */
@@ -882,110 +908,137 @@ public abstract class MultiblockControllerBase {
 			return null;
 		}
 
-		// Invalidate our reference coord, we'll recalculate it shortly
-		referenceCoord = null;
-
-		// Reset visitations and find the minimum coordinate
-		Set<IMultiblockPart> deadParts = new HashSet<>();
-		BlockPos pos;
-		IMultiblockPart referencePart = null;
-
-		int originalSize = connectedParts.size();
-
-		for (IMultiblockPart part : connectedParts) {
-			pos = part.getWorldLocation();
-			if (!WorldUtils.isChunkLoaded(worldObj, pos) || part.isInvalid()) {
-				deadParts.add(part);
-				onDetachBlock(part);
-				continue;
+		// Removing parts can only disconnect their neighbors from each other
+		LongArrayList seeds = new LongArrayList();
+		LongOpenHashSet seen = new LongOpenHashSet();
+		for (int i = 0; i < removedPositions.size(); i++) {
+			long removedPosition = removedPositions.getLong(i);
+			for (Direction direction : Direction.values()) {
+				long neighbor = BlockPos.offset(removedPosition, direction);
+				if (partsByPosition.containsKey(neighbor) && seen.add(neighbor)) {
+					seeds.add(neighbor);
+				}
 			}
+		}
+		removedPositions.clear();
 
-			if (worldObj.getBlockEntity(pos) != part) {
-				deadParts.add(part);
-				onDetachBlock(part);
-				continue;
+		Set<IMultiblockPart> removedParts = new HashSet<>();
+		if (seeds.size() > 1) {
+			LongArrayList detachedPositions = findDetachedPositions(seeds);
+			int originalSize = connectedParts.size();
+			int newSize = originalSize - detachedPositions.size();
+
+			for (int i = 0; i < detachedPositions.size(); i++) {
+				IMultiblockPart orphan = partsByPosition.remove(detachedPositions.getLong(i));
+				connectedParts.remove(orphan);
+				orphan.onOrphaned(this, originalSize, newSize);
+				onDetachBlock(orphan);
+				removedParts.add(orphan);
 			}
+		}
 
-			part.setUnvisited();
-			part.forfeitMultiblockSaveDelegate();
-
-			if (referenceCoord == null) {
-				referenceCoord = pos;
-				referencePart = part;
-			} else if (pos.compareTo(referenceCoord) < 0) {
-				referenceCoord = pos;
-				referencePart = part;
-			}
+		if (referenceCoord == null) {
+			selectNewReferenceCoord();
 		}
 
-		connectedParts.removeAll(deadParts);
-		deadParts.clear();
+		// We've run the checks from here on out.
+		shouldCheckForDisconnections = false;
 
-		if (referencePart == null || isEmpty()) {
-			// There are no valid parts remaining. The entire multiblock was
-			// unloaded during a chunk unload. Halt.
-			shouldCheckForDisconnections = false;
-			MultiblockRegistry.addDeadController(worldObj, this);
-			return null;
-		} else {
-			referencePart.becomeMultiblockSaveDelegate();
+		return removedParts;
+	}
+
+	/**
+	 * Walks the structure from all seed positions at once, one step per seed
+	 * in turn, until only one group of connected seeds still has parts left to
+	 * explore. Every other group has been explored completely and is no longer
+	 * connected to the rest of the machine, so the cost depends on the size of
+	 * the fragments split off rather than on the size of the machine.
+	 *
+	 * @param seeds {@link LongArrayList} Packed positions of the neighbors of removed parts
+	 * @return {@link LongArrayList} Packed positions of the parts which are no longer connected
+	 */
+	private LongArrayList findDetachedPositions(LongArrayList seeds) {
+		final int seedCount = seeds.size();
+		final int[] groups = new int[seedCount];
+		final int[] activeFrontiers = new int[seedCount];
+		final boolean[] closed = new boolean[seedCount];
+		final LongArrayFIFOQueue[] frontiers = new LongArrayFIFOQueue[seedCount];
+		final Long2IntOpenHashMap owners = new Long2IntOpenHashMap();
+		owners.defaultReturnValue(-1);
+
+		for (int i = 0; i < seedCount; i++) {
+			groups[i] = i;
+			activeFrontiers[i] = 1;
+			frontiers[i] = new LongArrayFIFOQueue();
+			frontiers[i].enqueue(seeds.getLong(i));
+			owners.put(seeds.getLong(i), i);
 		}
 
-		// Now visit all connected parts, breadth-first, starting from reference
-		// coord's part
-		IMultiblockPart part;
-		LinkedList<IMultiblockPart> partsToCheck = new LinkedList<>();
-		IMultiblockPart[] nearbyParts;
-		int visitedParts = 0;
-
-		partsToCheck.add(referencePart);
-
-		while (!partsToCheck.isEmpty()) {
-			part = partsToCheck.removeFirst();
-			part.setVisited();
-			visitedParts++;
-
-			// Chunk-safe on server, but not on client
-			nearbyParts = part.getNeighboringParts();
-			for (IMultiblockPart nearbyPart : nearbyParts) {
-				// Ignore different machines
-				if (nearbyPart.getMultiblockController() != this) {
+		int openGroups = seedCount;
+		while (openGroups > 1) {
+			for (int i = 0; i < seedCount && openGroups > 1; i++) {
+				LongArrayFIFOQueue frontier = frontiers[i];
+				if (frontier.isEmpty()) {
 					continue;
 				}
 
-				if (!nearbyPart.isVisited()) {
-					nearbyPart.setVisited();
-					partsToCheck.add(nearbyPart);
+				long position = frontier.dequeueLong();
+				for (Direction direction : Direction.values()) {
+					long neighbor = BlockPos.offset(position, direction);
+					if (!partsByPosition.containsKey(neighbor)) {
+						continue;
+					}
+
+					int owner = owners.get(neighbor);
+					if (owner < 0) {
+						owners.put(neighbor, i);
+						frontier.enqueue(neighbor);
+						continue;
+					}
+
+					int group = findGroup(groups, i);
+					int otherGroup = findGroup(groups, owner);
+					if (group != otherGroup) {
+						// Both groups are still open, a completely explored group cannot be reached
+						groups[otherGroup] = group;
+						activeFrontiers[group] += activeFrontiers[otherGroup];
+						openGroups--;
+					}
+				}
+
+				if (frontier.isEmpty()) {
+					int group = findGroup(groups, i);
+					if (--activeFrontiers[group] == 0) {
+						closed[group] = true;
+						openGroups--;
+					}
 				}
 			}
 		}
 
-		// Finally, remove all parts that remain disconnected.
-		Set<IMultiblockPart> removedParts = new HashSet<>();
-		for (IMultiblockPart orphanCandidate : connectedParts) {
-			if (!orphanCandidate.isVisited()) {
-				deadParts.add(orphanCandidate);
-				orphanCandidate.onOrphaned(this, originalSize, visitedParts);
-				onDetachBlock(orphanCandidate);
-				removedParts.add(orphanCandidate);
+		LongArrayList detachedPositions = new LongArrayList();
+		for (Long2IntMap.Entry entry : owners.long2IntEntrySet()) {
+			if (closed[findGroup(groups, entry.getIntValue())]) {
+				detachedPositions.add(entry.getLongKey());
 			}
 		}
+		return detachedPositions;
+	}
 
-		// Trim any blocks that were invalid, or were removed.
-		connectedParts.removeAll(deadParts);
-
-		// Cleanup. Not necessary, really.
-		deadParts.clear();
-
-		// Juuuust in case.
-		if (referenceCoord == null) {
-			selectNewReferenceCoord();
+	private static int findGroup(int[] groups, int seed) {
+		while (groups[seed] != seed) {
+			groups[seed] = groups[groups[seed]];
+			seed = groups[seed];
 		}
+		return seed;
+	}
 
-		// We've run the checks from here on out.
-		shouldCheckForDisconnections = false;
-
-		return removedParts;
+	private void removePosition(IMultiblockPart part) {
+		long position = part.getWorldLocation().asLong();
+		if (partsByPosition.get(position) == part) {
+			partsByPosition.remove(position);
+			removedPositions.add(position);
+		}
 	}
 
 	/**
@@ -1007,6 +1060,8 @@ public abstract class MultiblockControllerBase {
 
 		Set<IMultiblockPart> detachedParts = connectedParts;
 		connectedParts = new HashSet<>();
+		partsByPosition.clear();
+		removedPositions.clear();
 		return detachedParts;
 	}
 
@@ -24,23 +24,20 @@
 
 package reborncore.common.multiblock;
 
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+
 /**
- * In your mod, subscribe this on both the client and server sides to
- * handle chunk load events for your multiblock machines. Chunks can load
- * asynchronously in environments like MCPC+, so we cannot behavior any blocks
- * that are in chunks which are still loading.
+ * Directs the server chunk load events to the multiblock registry, so that
+ * parts waiting on a chunk are attached as soon as it has loaded. Chunks can
+ * load asynchronously, so we cannot behavior any blocks that are in chunks
+ * which are still loading.
  */
 public class MultiblockEventHandler {
 
-	//TODO mixins needed for this
-//	public void onChunkLoad(ChunkEvent.Load loadEvent) {
-//		Chunk chunk = loadEvent.getChunk();
-//		IWorld world = loadEvent.getWorld();
-//		MultiblockRegistry.onChunkLoaded(world, chunk);
-//	}
-//
-//
-//	public void onWorldUnload(WorldEvent.Unload unloadWorldEvent) {
-//		MultiblockRegistry.onWorldUnloaded(unloadWorldEvent.getWorld());
-//	}
+	public static void init() {
+		ServerChunkEvents.CHUNK_LOAD.register(MultiblockRegistry::onChunkLoaded);
+		ServerChunkEvents.CHUNK_UNLOAD.register(MultiblockRegistry::onChunkUnloaded);
+		ServerWorldEvents.UNLOAD.register((server, world) -> MultiblockRegistry.onWorldUnloaded(world));
+	}
 }
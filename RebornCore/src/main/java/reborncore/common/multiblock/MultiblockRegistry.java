@@ -66,6 +66,18 @@ public class MultiblockRegistry {
 		}
 	}
 
+	/**
+	 * Called when the world has unloaded a chunk.
+	 *
+	 * @param world {@link World} The world which has unloaded a chunk
+	 * @param chunk {@link Chunk} Unloaded chunk
+	 */
+	public static void onChunkUnloaded(World world, Chunk chunk) {
+		if (registries.containsKey(world)) {
+			registries.get(world).onChunkUnloaded(chunk);
+		}
+	}
+
 	/**
 	 * Register a new part in the system. The part has been created either
 	 * through user action or via a chunk loading.
@@ -24,6 +24,9 @@
 
 package reborncore.common.multiblock;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
@@ -62,9 +65,9 @@ public class MultiblockWorldRegistry {
 
 	// A list of parts whose chunks have not yet finished loading
 	// They will be added to the orphan list when they are finished loading.
-	// Indexed by the hashed chunk coordinate
+	// Indexed by the packed chunk coordinate, see ChunkPos.toLong
 	// This can be added-to asynchronously via chunk loads!
-	private HashMap<Integer, Set<IMultiblockPart>> partsAwaitingChunkLoad;
+	private Long2ObjectMap<Set<IMultiblockPart>> partsAwaitingChunkLoad;
 
 	// Mutexes to protect lists which may be changed due to asynchronous events,
 	// such as chunk loads
@@ -81,7 +84,7 @@ public class MultiblockWorldRegistry {
 		detachedParts = new HashSet<>();
 		orphanedParts = new HashSet<>();
 
-		partsAwaitingChunkLoad = new HashMap<>();
+		partsAwaitingChunkLoad = new Long2ObjectOpenHashMap<>();
 		partsAwaitingChunkLoadMutex = new Object();
 		orphanedPartsMutex = new Object();
 	}
@@ -111,8 +114,6 @@ public class MultiblockWorldRegistry {
 	 * Called prior to processing multiblock controllers. Do bookkeeping.
 	 */
 	public void processMultiblockChanges() {
-		BlockPos coord;
-
 		// Merge pools - sets of adjacent machines which should be merged later
 		// on in processing
 		List<Set<MultiblockControllerBase>> mergePools = null;
@@ -136,71 +137,81 @@ public class MultiblockWorldRegistry {
 			if (orphansToProcess != null && orphansToProcess.size() > 0) {
 				Set<MultiblockControllerBase> compatibleControllers;
 
+				// Group the orphans by chunk, so that every chunk is only checked once and
+				// all parts of a multiblock spanning several chunks attach in the same pass
+				Long2ObjectLinkedOpenHashMap<List<IMultiblockPart>> orphansByChunk = new Long2ObjectLinkedOpenHashMap<>();
+				for (IMultiblockPart orphan : orphansToProcess) {
+					orphansByChunk.computeIfAbsent(ChunkPos.toLong(orphan.getWorldLocation()), chunk -> new ArrayList<>()).add(orphan);
+				}
+
 				// Process orphaned blocks
 				// These are blocks that exist in a valid chunk and require a
 				// controller
-				for (IMultiblockPart orphan : orphansToProcess) {
-					coord = orphan.getWorldLocation();
-					if (!WorldUtils.isChunkLoaded(worldObj, coord)) {
+				for (Long2ObjectMap.Entry<List<IMultiblockPart>> chunkOrphans : orphansByChunk.long2ObjectEntrySet()) {
+					if (!WorldUtils.isChunkLoaded(worldObj, chunkOrphans.getValue().get(0).getWorldLocation())) {
+						// Wait for the chunk to load again rather than dropping the parts
+						addPartsAwaitingChunkLoad(chunkOrphans.getLongKey(), chunkOrphans.getValue());
 						continue;
 					}
 
-					// This can occur on slow machines.
-					if (orphan.isInvalid()) {
-						continue;
-					}
-
-					// This block has been replaced by another.
-					if (worldObj.getBlockEntity(coord) != orphan) {
-						continue;
-					}
+					for (IMultiblockPart orphan : chunkOrphans.getValue()) {
+						// This can occur on slow machines.
+						if (orphan.isInvalid()) {
+							continue;
+						}
 
-					// THIS IS THE ONLY PLACE WHERE PARTS ATTACH TO MACHINES
-					// Try to attach to a neighbor's master controller
-					compatibleControllers = orphan.attachToNeighbors();
-					if (compatibleControllers == null) {
-						// FOREVER ALONE! Create and register a new controller.
-						// THIS IS THE ONLY PLACE WHERE NEW CONTROLLERS ARE
-						// CREATED.
-						MultiblockControllerBase newController = orphan.createNewMultiblock();
-						newController.attachBlock(orphan);
-						this.controllers.add(newController);
-					} else if (compatibleControllers.size() > 1) {
-						if (mergePools == null) {
-							mergePools = new ArrayList<>();
+						// This block has been replaced by another.
+						if (worldObj.getBlockEntity(orphan.getWorldLocation()) != orphan) {
+							continue;
 						}
 
-						// THIS IS THE ONLY PLACE WHERE MERGES ARE DETECTED
-						// Multiple compatible controllers indicates an
-						// impending merge.
-						// Locate the appropriate merge pool(s)
-						//boolean hasAddedToPool = false;
-						List<Set<MultiblockControllerBase>> candidatePools = new ArrayList<>();
-						for (Set<MultiblockControllerBase> candidatePool : mergePools) {
-							if (!Collections.disjoint(candidatePool, compatibleControllers)) {
-								// They share at least one element, so that
-								// means they will all touch after the merge
-								candidatePools.add(candidatePool);
+						// THIS IS THE ONLY PLACE WHERE PARTS ATTACH TO MACHINES
+						// Try to attach to a neighbor's master controller
+						compatibleControllers = orphan.attachToNeighbors();
+						if (compatibleControllers == null) {
+							// FOREVER ALONE! Create and register a new controller.
+							// THIS IS THE ONLY PLACE WHERE NEW CONTROLLERS ARE
+							// CREATED.
+							MultiblockControllerBase newController = orphan.createNewMultiblock();
+							newController.attachBlock(orphan);
+							this.controllers.add(newController);
+						} else if (compatibleControllers.size() > 1) {
+							if (mergePools == null) {
+								mergePools = new ArrayList<>();
 							}
-						}
 
-						if (candidatePools.size() <= 0) {
-							// No pools nearby, create a new merge pool
-							mergePools.add(compatibleControllers);
-						} else if (candidatePools.size() == 1) {
-							// Only one pool nearby, simply add to that one
-							candidatePools.get(0).addAll(compatibleControllers);
-						} else {
-							// Multiple pools- merge into one, then add the
-							// compatible controllers
-							Set<MultiblockControllerBase> masterPool = candidatePools.get(0);
-							Set<MultiblockControllerBase> consumedPool;
-							for (int i = 1; i < candidatePools.size(); i++) {
-								consumedPool = candidatePools.get(i);
-								masterPool.addAll(consumedPool);
-								mergePools.remove(consumedPool);
+							// THIS IS THE ONLY PLACE WHERE MERGES ARE DETECTED
+							// Multiple compatible controllers indicates an
+							// impending merge.
+							// Locate the appropriate merge pool(s)
+							//boolean hasAddedToPool = false;
+							List<Set<MultiblockControllerBase>> candidatePools = new ArrayList<>();
+							for (Set<MultiblockControllerBase> candidatePool : mergePools) {
+								if (!Collections.disjoint(candidatePool, compatibleControllers)) {
+									// They share at least one element, so that
+									// means they will all touch after the merge
+									candidatePools.add(candidatePool);
+								}
+							}
+
+							if (candidatePools.size() <= 0) {
+								// No pools nearby, create a new merge pool
+								mergePools.add(compatibleControllers);
+							} else if (candidatePools.size() == 1) {
+								// Only one pool nearby, simply add to that one
+								candidatePools.get(0).addAll(compatibleControllers);
+							} else {
+								// Multiple pools- merge into one, then add the
+								// compatible controllers
+								Set<MultiblockControllerBase> masterPool = candidatePools.get(0);
+								Set<MultiblockControllerBase> consumedPool;
+								for (int i = 1; i < candidatePools.size(); i++) {
+									consumedPool = candidatePools.get(i);
+									masterPool.addAll(consumedPool);
+									mergePools.remove(consumedPool);
+								}
+								masterPool.addAll(compatibleControllers);
 							}
-							masterPool.addAll(compatibleControllers);
 						}
 					}
 				}
@@ -318,19 +329,7 @@ public class MultiblockWorldRegistry {
 
 		if (!WorldUtils.isChunkLoaded(worldObj, pos)) {
 			// Part goes into the waiting-for-chunk-load list
-			Set<IMultiblockPart> partSet;
-			int chunkHash = new ChunkPos(pos).hashCode();
-
-			synchronized (partsAwaitingChunkLoadMutex) {
-				if (!partsAwaitingChunkLoad.containsKey(chunkHash)) {
-					partSet = new HashSet<>();
-					partsAwaitingChunkLoad.put(chunkHash, partSet);
-				} else {
-					partSet = partsAwaitingChunkLoad.get(chunkHash);
-				}
-
-				partSet.add(part);
-			}
+			addPartsAwaitingChunkLoad(ChunkPos.toLong(pos), Collections.singleton(part));
 		} else {
 			// Part goes into the orphan queue, to be checked this tick
 			addOrphanedPartThreadsafe(part);
@@ -347,15 +346,14 @@ public class MultiblockWorldRegistry {
 	public void onPartRemovedFromWorld(IMultiblockPart part) {
 		BlockPos pos = part.getWorldLocation();
 		if (pos != null) {
-			int chunkHash = new ChunkPos(pos).hashCode();
-
-			if (partsAwaitingChunkLoad.containsKey(chunkHash)) {
-				synchronized (partsAwaitingChunkLoadMutex) {
-					if (partsAwaitingChunkLoad.containsKey(chunkHash)) {
-						partsAwaitingChunkLoad.get(chunkHash).remove(part);
-						if (partsAwaitingChunkLoad.get(chunkHash).size() <= 0) {
-							partsAwaitingChunkLoad.remove(chunkHash);
-						}
+			long chunkPos = ChunkPos.toLong(pos);
+
+			synchronized (partsAwaitingChunkLoadMutex) {
+				Set<IMultiblockPart> partSet = partsAwaitingChunkLoad.get(chunkPos);
+				if (partSet != null) {
+					partSet.remove(part);
+					if (partSet.isEmpty()) {
+						partsAwaitingChunkLoad.remove(chunkPos);
 					}
 				}
 			}
@@ -401,14 +399,25 @@ public class MultiblockWorldRegistry {
 	 * @param chunk {@link Chunk} Chunk that was loaded
 	 */
 	public void onChunkLoaded(Chunk chunk) {
-		int chunkHash = chunk.getPos().hashCode();
-		if (partsAwaitingChunkLoad.containsKey(chunkHash)) {
-			synchronized (partsAwaitingChunkLoadMutex) {
-				if (partsAwaitingChunkLoad.containsKey(chunkHash)) {
-					addAllOrphanedPartsThreadsafe(partsAwaitingChunkLoad.get(chunkHash));
-					partsAwaitingChunkLoad.remove(chunkHash);
-				}
-			}
+		Set<IMultiblockPart> partSet;
+		synchronized (partsAwaitingChunkLoadMutex) {
+			partSet = partsAwaitingChunkLoad.remove(chunk.getPos().toLong());
+		}
+
+		if (partSet != null) {
+			addAllOrphanedPartsThreadsafe(partSet);
+		}
+	}
+
+	/**
+	 * Called when a chunk is unloaded. Parts of the chunk which were still
+	 * waiting for it to load are dropped, as they are removed with the chunk.
+	 *
+	 * @param chunk {@link Chunk} Chunk that was unloaded
+	 */
+	public void onChunkUnloaded(Chunk chunk) {
+		synchronized (partsAwaitingChunkLoadMutex) {
+			partsAwaitingChunkLoad.remove(chunk.getPos().toLong());
 		}
 	}
 
@@ -447,6 +456,12 @@ public class MultiblockWorldRegistry {
 
 	/* *** PRIVATE HELPERS *** */
 
+	private void addPartsAwaitingChunkLoad(long chunkPos, Collection<? extends IMultiblockPart> parts) {
+		synchronized (partsAwaitingChunkLoadMutex) {
+			partsAwaitingChunkLoad.computeIfAbsent(chunkPos, chunk -> new HashSet<>()).addAll(parts);
+		}
+	}
+
 	private void addOrphanedPartThreadsafe(IMultiblockPart part) {
 		synchronized (orphanedPartsMutex) {
 			orphanedParts.add(part);
@@ -25,17 +25,21 @@
 package reborncore.common.network;
 
 import com.mojang.serialization.Codec;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import reborncore.common.blockentity.FluidConfiguration;
+import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.blockentity.SlotConfiguration;
+import reborncore.common.blockentity.SyncedFields;
 import reborncore.common.chunkloading.ChunkLoaderManager;
+import reborncore.common.screen.SyncedValues;
 
 import java.util.List;
 
@@ -52,6 +56,26 @@ public class ClientBoundPackets {
 		});
 	}
 
+	/**
+	 * Each entry is the position of the block entity followed by the length and the bytes of its changed fields,
+	 * see {@link SyncedFields}. Block entities without changed fields are left out.
+	 */
+	public static IdentifiedPacket createPacketDeltaSync(List<MachineBaseBlockEntity> blockEntities) {
+		return NetworkManager.createClientBoundPacket(new Identifier("reborncore", "delta_sync"), packetBuffer -> {
+			PacketByteBuf fieldBuffer = PacketByteBufs.create();
+			for (MachineBaseBlockEntity blockEntity : blockEntities) {
+				SyncedFields syncedFields = blockEntity.getSyncedFields();
+				fieldBuffer.clear();
+				if (syncedFields != null && syncedFields.write(fieldBuffer)) {
+					packetBuffer.writeLong(blockEntity.getPos().asLong());
+					packetBuffer.writeVarInt(fieldBuffer.readableBytes());
+					packetBuffer.writeBytes(fieldBuffer);
+				}
+			}
+			fieldBuffer.release();
+		});
+	}
+
 	public static IdentifiedPacket createPacketFluidConfigSync(BlockPos pos, FluidConfiguration fluidConfiguration) {
 		return NetworkManager.createClientBoundPacket(new Identifier("reborncore", "fluid_config_sync"), packetBuffer -> {
 			packetBuffer.writeBlockPos(pos);
@@ -66,15 +90,10 @@ public class ClientBoundPackets {
 		});
 	}
 
-	public static IdentifiedPacket createPacketSendObject(ScreenHandler screenHandler, Int2ObjectMap<Object> updatedValues) {
+	public static IdentifiedPacket createPacketSendObject(ScreenHandler screenHandler, SyncedValues syncedValues) {
 		return NetworkManager.createClientBoundPacket(new Identifier("reborncore", "send_object"), packetBuffer -> {
-			packetBuffer.writeInt(updatedValues.size());
-			updatedValues.forEach((integer, o) -> {
-				packetBuffer.writeInt(integer);
-				packetBuffer.writeObject(o);
-			});
-			packetBuffer.writeInt(screenHandler.getClass().getName().length());
-			packetBuffer.writeString(screenHandler.getClass().getName());
+			packetBuffer.writeVarInt(screenHandler.syncId);
+			syncedValues.write(packetBuffer);
 		});
 	}
 
@@ -0,0 +1,89 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import reborncore.common.blockentity.MachineBaseBlockEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Coalesces {@link MachineBaseBlockEntity#syncWithAll()} calls of block entities with synced fields, at the end of
+ * the world tick the changed fields are sent in one packet per chunk.
+ */
+public final class DeltaSyncManager {
+	private static final Map<World, Set<MachineBaseBlockEntity>> DIRTY = new HashMap<>();
+
+	private DeltaSyncManager() {
+	}
+
+	public static void markDirty(MachineBaseBlockEntity blockEntity) {
+		DIRTY.computeIfAbsent(blockEntity.getWorld(), world -> new ReferenceLinkedOpenHashSet<>()).add(blockEntity);
+	}
+
+	public static void onServerWorldTick(ServerWorld world) {
+		Set<MachineBaseBlockEntity> dirty = DIRTY.get(world);
+		if (dirty == null || dirty.isEmpty()) {
+			return;
+		}
+
+		Long2ObjectLinkedOpenHashMap<List<MachineBaseBlockEntity>> chunks = new Long2ObjectLinkedOpenHashMap<>();
+		for (MachineBaseBlockEntity blockEntity : dirty) {
+			if (!blockEntity.isRemoved()) {
+				chunks.computeIfAbsent(ChunkPos.toLong(blockEntity.getPos()), chunk -> new ArrayList<>()).add(blockEntity);
+			}
+		}
+		dirty.clear();
+
+		for (Long2ObjectMap.Entry<List<MachineBaseBlockEntity>> entry : chunks.long2ObjectEntrySet()) {
+			Collection<ServerPlayerEntity> players = PlayerLookup.tracking(world, new ChunkPos(entry.getLongKey()));
+			if (players.isEmpty()) {
+				// The chunk data sent when a player starts tracking contains the whole block entity.
+				continue;
+			}
+
+			IdentifiedPacket packet = ClientBoundPackets.createPacketDeltaSync(entry.getValue());
+			if (packet.packetByteBuf().isReadable()) {
+				NetworkManager.send(packet, players);
+			}
+		}
+	}
+
+	public static void onWorldUnload(World world) {
+		DIRTY.remove(world);
+	}
+}
@@ -31,25 +31,23 @@ import net.minecraft.util.math.BlockPos;
 import reborncore.common.fluid.FluidValue;
 
 import java.math.BigInteger;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 public enum ObjectBufferUtils {
 
 	STRING(String.class, (string, buffer) -> {
-		buffer.writeInt(string.length());
 		buffer.writeString(string);
-	}, buffer -> {
-		return buffer.readString(buffer.readInt());
-	}),
+	}, PacketByteBuf::readString),
 
 	INT(Integer.class, (value, buffer) -> {
-		buffer.writeInt(value);
-	}, PacketByteBuf::readInt),
+		buffer.writeVarInt(value);
+	}, PacketByteBuf::readVarInt),
 
 	LONG(Long.class, (pos, buffer) -> {
-		buffer.writeLong(pos);
-	}, ExtendedPacketBuffer::readLong),
+		buffer.writeVarLong(pos);
+	}, ExtendedPacketBuffer::readVarLong),
 
 	DOUBLE(Double.class, (pos, buffer) -> {
 		buffer.writeDouble(pos);
@@ -68,23 +66,28 @@ public enum ObjectBufferUtils {
 	}, PacketByteBuf::readBlockPos),
 
 	ID(Identifier.class, (id, buffer) -> {
-		String string = id.toString();
-		buffer.writeInt(string.length());
-		buffer.writeString(string);
-	}, buffer -> {
-		return new Identifier(buffer.readString(buffer.readInt()));
-	}),
+		buffer.writeIdentifier(id);
+	}, PacketByteBuf::readIdentifier),
 
 	FLUID_VALUE(FluidValue.class, (value, buffer) -> {
-		buffer.writeLong(value.getRawValue());
+		buffer.writeVarLong(value.getRawValue());
 	}, buffer -> {
-		return FluidValue.fromRaw(buffer.readLong());
+		return FluidValue.fromRaw(buffer.readVarLong());
 	}),
 
 	COMPOUND_TAG(NbtCompound.class, (value, buffer) -> {
 		buffer.writeNbt(value);
 	}, PacketByteBuf::readNbt);
 
+	private static final Map<Class<?>, ObjectBufferUtils> BY_CLASS = new HashMap<>();
+	private static final ObjectBufferUtils[] VALUES = values();
+
+	static {
+		for (ObjectBufferUtils utils : VALUES) {
+			BY_CLASS.put(utils.clazz, utils);
+		}
+	}
+
 	Class clazz;
 	ObjectWriter writer;
 	ObjectReader reader;
@@ -96,14 +99,14 @@ public enum ObjectBufferUtils {
 	}
 
 	public static void writeObject(Object object, ExtendedPacketBuffer buffer) {
-		ObjectBufferUtils utils = Arrays.stream(values()).filter(objectBufferUtils -> objectBufferUtils.clazz == object.getClass()).findFirst().orElse(null);
+		ObjectBufferUtils utils = BY_CLASS.get(object.getClass());
 		Objects.requireNonNull(utils, "No support found for " + object.getClass());
-		buffer.writeInt(utils.ordinal());
+		buffer.writeVarInt(utils.ordinal());
 		utils.writer.write(object, buffer);
 	}
 
 	public static Object readObject(ExtendedPacketBuffer buffer) {
-		ObjectBufferUtils utils = values()[buffer.readInt()];
+		ObjectBufferUtils utils = VALUES[buffer.readVarInt()];
 		Objects.requireNonNull(utils, "Could not find reader");
 		return utils.reader.read(buffer);
 	}
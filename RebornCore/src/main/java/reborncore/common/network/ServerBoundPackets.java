@@ -89,6 +89,7 @@ public class ServerBoundPackets {
 				}
 				config.setInput(input);
 				config.setOutput(output);
+				legacyMachineBase.markDirty();
 
 				// Syncs back to the client
 				IdentifiedPacket packetFluidConfigSync = ClientBoundPackets.createPacketFluidConfigSync(pos, legacyMachineBase.fluidConfiguration);
@@ -114,6 +115,7 @@ public class ServerBoundPackets {
 				holder.setInput(input);
 				holder.setOutput(output);
 				holder.setFilter(filter);
+				machineBase.markDirty();
 
 				//Syncs back to the client
 				IdentifiedPacket packetSlotSync = ClientBoundPackets.createPacketSlotSync(pos, machineBase.getSlotConfiguration());
@@ -161,6 +163,7 @@ public class ServerBoundPackets {
 				if (blockEntity == null) return;
 
 				blockEntity.getRedstoneConfiguration().setState(element, state);
+				blockEntity.markDirty();
 			});
 		});
 	}
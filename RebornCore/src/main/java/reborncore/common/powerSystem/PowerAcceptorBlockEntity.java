@@ -24,6 +24,7 @@
 
 package reborncore.common.powerSystem;
 
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
 import net.fabricmc.fabric.api.transfer.v1.context.ContainerItemContext;
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.minecraft.block.BlockState;
@@ -31,6 +32,7 @@ import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.inventory.Inventory;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 import net.minecraft.util.Formatting;
@@ -70,9 +72,25 @@ public abstract class PowerAcceptorBlockEntity extends MachineBaseBlockEntity im
 			}
 			return 0;
 		}
+
+		@Override
+		protected void onFinalCommit() {
+			super.onFinalCommit();
+			PowerAcceptorBlockEntity.this.wakeUp();
+		}
 	};
 	private RcEnergyTier blockEntityPowerTier;
 
+	/**
+	 * The longest amount of ticks a side is skipped for after its target did not accept any energy.
+	 */
+	private static final int MAX_PUSH_BACKOFF = 8;
+	@SuppressWarnings("unchecked")
+	private final BlockApiCache<EnergyStorage, Direction>[] adjacentCaches = new BlockApiCache[6];
+	private final EnergyStorage[] pushTargets = new EnergyStorage[6];
+	private final byte[] pushBackoff = new byte[6];
+	private final byte[] pushBackoffLength = new byte[6];
+
 	public long extraPowerStorage;
 	public long extraPowerInput;
 	public int extraTier;
@@ -339,18 +357,52 @@ public abstract class PowerAcceptorBlockEntity extends MachineBaseBlockEntity im
 		}
 
 		for (Direction side : Direction.values()) {
-			EnergyStorageUtil.move(
-					getSideEnergyStorage(side),
-					EnergyStorage.SIDED.find(world, pos.offset(side), side.getOpposite()),
-					Long.MAX_VALUE,
-					null
-			);
+			pushEnergy((ServerWorld) world, side);
 		}
 
 		powerChange = getStored() - powerLastTick;
 		powerLastTick = getStored();
 	}
 
+	/**
+	 * Pushes energy to the storage on the given side. Sides that can't output are skipped without looking up the
+	 * target, and a target that didn't accept anything is left alone for a few ticks, backing off up to
+	 * {@link #MAX_PUSH_BACKOFF} ticks while it keeps refusing.
+	 */
+	private void pushEnergy(ServerWorld world, Direction side) {
+		if (getMaxOutput(side) <= 0) {
+			return;
+		}
+
+		int id = side.getId();
+		if (adjacentCaches[id] == null) {
+			adjacentCaches[id] = BlockApiCache.create(EnergyStorage.SIDED, world, pos.offset(side));
+		}
+
+		EnergyStorage target = adjacentCaches[id].find(side.getOpposite());
+		if (target != pushTargets[id]) {
+			// New neighbour, try it right away
+			pushTargets[id] = target;
+			pushBackoff[id] = 0;
+			pushBackoffLength[id] = 0;
+		}
+		if (target == null) {
+			return;
+		}
+		if (pushBackoff[id] > 0) {
+			pushBackoff[id]--;
+			return;
+		}
+
+		long moved = EnergyStorageUtil.move(getSideEnergyStorage(side), target, Long.MAX_VALUE, null);
+		if (moved > 0) {
+			pushBackoffLength[id] = 0;
+		} else {
+			pushBackoffLength[id] = (byte) Math.min(MAX_PUSH_BACKOFF, Math.max(1, pushBackoffLength[id] * 2));
+			pushBackoff[id] = pushBackoffLength[id];
+		}
+	}
+
 	@Override
 	public void readNbt(NbtCompound tag) {
 		super.readNbt(tag);
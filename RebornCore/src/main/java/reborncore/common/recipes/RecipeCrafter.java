@@ -202,7 +202,7 @@ public class RecipeCrafter implements IUpgradeHandler {
 	 */
 	public void updateCurrentRecipe() {
 		currentTickTime = 0;
-		for (RebornRecipe recipe : recipeType.getRecipes(blockEntity.getWorld())) {
+		for (RebornRecipe recipe : recipeType.getRecipeIndex(blockEntity.getWorld()).getCandidates(inventory, inputSlots)) {
 			// This checks to see if it has all the inputs
 			if (!hasAllInputs(recipe)) continue;
 			if (!recipe.canCraft(blockEntity)) continue;
@@ -321,7 +321,7 @@ public class RecipeCrafter implements IUpgradeHandler {
 	}
 
 	public boolean canCraftAgain() {
-		for (RebornRecipe recipe : recipeType.getRecipes(blockEntity.getWorld())) {
+		for (RebornRecipe recipe : recipeType.getRecipeIndex(blockEntity.getWorld()).getCandidates(inventory, inputSlots)) {
 			if (recipe.canCraft(blockEntity) && hasAllInputs(recipe)) {
 				for (int i = 0; i < recipe.getOutputs().size(); i++) {
 					if (!canFitOutput(recipe.getOutputs().get(i), outputSlots[i])) {
@@ -371,14 +371,7 @@ public class RecipeCrafter implements IUpgradeHandler {
 	    // A bit of a hack but should work.
 		ItemStack largeStack = stack.copy();
 		largeStack.setCount(largeStack.getMaxCount());
-		for (RebornRecipe recipe : recipeType.getRecipes(blockEntity.getWorld())) {
-			for (RebornIngredient ingredient : recipe.getRebornIngredients()) {
-				if (ingredient.test(largeStack)) {
-					return true;
-				}
-			}
-		}
-		return false;
+		return recipeType.getRecipeIndex(blockEntity.getWorld()).isValidInput(largeStack);
 	}
 
 	@Override
@@ -24,8 +24,6 @@
 
 package reborncore.common.screen;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.inventory.CraftingInventory;
 import net.minecraft.inventory.Inventory;
@@ -36,34 +34,26 @@ import net.minecraft.screen.ScreenHandlerType;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.util.math.BlockPos;
 import org.apache.commons.lang3.Range;
-import org.apache.commons.lang3.tuple.Pair;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.network.ClientBoundPackets;
+import reborncore.common.network.ExtendedPacketBuffer;
+import reborncore.common.network.IdentifiedPacket;
 import reborncore.common.network.NetworkManager;
 import reborncore.common.util.ItemUtils;
 import reborncore.mixin.ifaces.ServerPlayerEntityScreenHandler;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
 
 public class BuiltScreenHandler extends ScreenHandler {
-	private static final Logger LOGGER = LoggerFactory.getLogger(BuiltScreenHandler.class);
-
 	private final String name;
 
 	private final Predicate<PlayerEntity> canInteract;
 	private final List<Range<Integer>> playerSlotRanges;
 	private final List<Range<Integer>> blockEntitySlotRanges;
 
-	// Holds the SyncPair along with the last value
-	private final Map<SyncPair, Object> syncPairCache = new HashMap<>();
-	private final Int2ObjectMap<SyncPair> syncPairIdLookup = new Int2ObjectOpenHashMap<>();
+	private SyncedValues syncedValues = new SyncedValues();
 
 	private List<Consumer<CraftingInventory>> craftEvents;
 	private Integer[] integerParts;
@@ -84,14 +74,8 @@ public class BuiltScreenHandler extends ScreenHandler {
 		this.blockEntity = blockEntity;
 	}
 
-	public void addObjectSync(final List<Pair<Supplier<?>, Consumer<?>>> syncables) {
-		for (final Pair<Supplier<?>, Consumer<?>> syncable : syncables) {
-			// Add a new sync pair to the cache with a null value
-			int id = syncPairCache.size() + 1;
-			var syncPair = new SyncPair(syncable.getLeft(), syncable.getRight(), id);
-			this.syncPairCache.put(syncPair, null);
-			this.syncPairIdLookup.put(id, syncPair);
-		}
+	public void setSyncedValues(final SyncedValues syncedValues) {
+		this.syncedValues = syncedValues;
 	}
 
 	public void addCraftEvents(final List<Consumer<CraftingInventory>> craftEvents) {
@@ -114,57 +98,36 @@ public class BuiltScreenHandler extends ScreenHandler {
 	public void sendContentUpdates() {
 		super.sendContentUpdates();
 
-		for (final ScreenHandlerListener listener : listeners) {
-			sendContentUpdatePacketToListener(listener);
-		}
+		sendSyncedValues();
 	}
 
 	@Override
 	public void addListener(final ScreenHandlerListener listener) {
+		// The new listener needs every value, not only the changed ones
+		syncedValues.markAllDirty();
 		super.addListener(listener);
 
-		sendContentUpdatePacketToListener(listener);
+		sendSyncedValues();
 	}
 
-	private void sendContentUpdatePacketToListener(final ScreenHandlerListener listener) {
-		Int2ObjectMap<Object> updatedValues = new Int2ObjectOpenHashMap<>();
-
-		this.syncPairCache.replaceAll((syncPair, cached) -> {
-			final Object value = syncPair.supplier().get();
-
-			if (value != cached) {
-				updatedValues.put(syncPair.id, value);
-				return value;
-			}
-			return null;
-		});
-
-		sendUpdatedValues(listener, this, updatedValues);
-	}
-
-	public void handleUpdateValues(Int2ObjectMap<Object> updatedValues) {
-		updatedValues.int2ObjectEntrySet().forEach(entry -> {
-			SyncPair syncPair = syncPairIdLookup.get(entry.getIntKey());
-			if (syncPair == null) {
-				LOGGER.warn("Unknown sync pair id: " + entry.getIntKey());
-				return;
-			}
-
-			// TODO check the object type here?
-			syncPair.consumer().accept(entry.getValue());
-		});
-	}
-
-	private void sendUpdatedValues(ScreenHandlerListener screenHandlerListener, ScreenHandler screenHandler, Int2ObjectMap<Object> updatedValues) {
-		if (updatedValues.isEmpty()) {
+	private void sendSyncedValues() {
+		if (listeners.isEmpty() || !syncedValues.update()) {
 			return;
 		}
 
-		if (screenHandlerListener instanceof ServerPlayerEntityScreenHandler serverPlayerEntityScreenHandler) {
-			NetworkManager.sendToPlayer(ClientBoundPackets.createPacketSendObject(screenHandler, updatedValues), serverPlayerEntityScreenHandler.rc_getServerPlayerEntity());
+		// Encoded once for all listeners
+		IdentifiedPacket packet = ClientBoundPackets.createPacketSendObject(this, syncedValues);
+		for (final ScreenHandlerListener listener : listeners) {
+			if (listener instanceof ServerPlayerEntityScreenHandler serverPlayerEntityScreenHandler) {
+				NetworkManager.sendToPlayer(packet, serverPlayerEntityScreenHandler.rc_getServerPlayerEntity());
+			}
 		}
 	}
 
+	public void handleSyncedValues(ExtendedPacketBuffer buffer) {
+		syncedValues.read(buffer);
+	}
+
 	@Override
 	public ItemStack transferSlot(final PlayerEntity player, final int index) {
 
@@ -312,8 +275,4 @@ public class BuiltScreenHandler extends ScreenHandler {
 	public ScreenHandlerType<BuiltScreenHandler> getType() {
 		return type;
 	}
-
-	private record SyncPair(Supplier supplier, Consumer consumer, int id) {
-
-	}
 }
@@ -0,0 +1,209 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.screen;
+
+import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
+import reborncore.common.network.ExtendedPacketBuffer;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The values a {@link BuiltScreenHandler} syncs to the client. The last sent value of each int, long and boolean is
+ * kept in a primitive array; other values are written with {@link reborncore.common.network.ObjectBufferUtils}.
+ * <p>
+ * Values are identified by the order they are added in, so the client and the server must add the same values in
+ * the same order.
+ */
+public final class SyncedValues {
+	private static final byte INT = 0;
+	private static final byte LONG = 1;
+	private static final byte BOOLEAN = 2;
+	private static final byte OBJECT = 3;
+
+	private int size = 0;
+	private byte[] types = new byte[8];
+	private Object[] getters = new Object[8];
+	private Object[] setters = new Object[8];
+	// Last sent ints, longs and booleans
+	private long[] values = new long[8];
+	// Last sent objects
+	private Object[] objects = new Object[8];
+	// One bit per value that has to be sent
+	private long[] dirty = new long[1];
+
+	public SyncedValues addInt(IntSupplier getter, IntConsumer setter) {
+		return add(INT, getter, setter);
+	}
+
+	public SyncedValues addLong(LongSupplier getter, LongConsumer setter) {
+		return add(LONG, getter, setter);
+	}
+
+	public SyncedValues addBoolean(BooleanSupplier getter, BooleanConsumer setter) {
+		return add(BOOLEAN, getter, setter);
+	}
+
+	/**
+	 * Objects are compared with {@link Object#equals(Object)}, a {@code null} value is not sent.
+	 */
+	public SyncedValues addObject(Supplier<?> getter, Consumer<?> setter) {
+		return add(OBJECT, getter, setter);
+	}
+
+	private SyncedValues add(byte type, Object getter, Object setter) {
+		if (size == types.length) {
+			int capacity = size * 2;
+			types = Arrays.copyOf(types, capacity);
+			getters = Arrays.copyOf(getters, capacity);
+			setters = Arrays.copyOf(setters, capacity);
+			values = Arrays.copyOf(values, capacity);
+			objects = Arrays.copyOf(objects, capacity);
+		}
+		if (size >>> 6 == dirty.length) {
+			dirty = Arrays.copyOf(dirty, dirty.length + 1);
+		}
+
+		types[size] = type;
+		getters[size] = getter;
+		setters[size] = setter;
+		size++;
+		return this;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Send every value on the next {@link #update()}, used when a player starts listening.
+	 */
+	public void markAllDirty() {
+		for (int i = 0; i < size; i++) {
+			dirty[i >>> 6] |= 1L << i;
+		}
+	}
+
+	/**
+	 * Compares the current values with the last sent ones.
+	 *
+	 * @return {@code boolean} If any value has to be sent
+	 */
+	public boolean update() {
+		for (int i = 0; i < size; i++) {
+			boolean changed;
+			switch (types[i]) {
+				case INT -> {
+					long value = ((IntSupplier) getters[i]).getAsInt();
+					changed = value != values[i];
+					values[i] = value;
+				}
+				case LONG -> {
+					long value = ((LongSupplier) getters[i]).getAsLong();
+					changed = value != values[i];
+					values[i] = value;
+				}
+				case BOOLEAN -> {
+					long value = ((BooleanSupplier) getters[i]).getAsBoolean() ? 1 : 0;
+					changed = value != values[i];
+					values[i] = value;
+				}
+				default -> {
+					Object value = ((Supplier<?>) getters[i]).get();
+					if (value == null) {
+						dirty[i >>> 6] &= ~(1L << i);
+						continue;
+					}
+					changed = !Objects.equals(value, objects[i]);
+					objects[i] = value;
+				}
+			}
+
+			if (changed) {
+				dirty[i >>> 6] |= 1L << i;
+			}
+		}
+
+		boolean anyDirty = false;
+		for (long word : dirty) {
+			anyDirty |= word != 0;
+		}
+		return anyDirty;
+	}
+
+	/**
+	 * Writes the values found dirty by {@link #update()}.
+	 *
+	 * @param buffer {@link ExtendedPacketBuffer} The buffer to write to
+	 */
+	public void write(ExtendedPacketBuffer buffer) {
+		for (long word : dirty) {
+			buffer.writeVarLong(word);
+		}
+
+		for (int i = 0; i < size; i++) {
+			if ((dirty[i >>> 6] & 1L << i) == 0) {
+				continue;
+			}
+
+			switch (types[i]) {
+				case INT -> buffer.writeVarInt((int) values[i]);
+				case LONG -> buffer.writeVarLong(values[i]);
+				case BOOLEAN -> buffer.writeBoolean(values[i] != 0);
+				default -> buffer.writeObject(objects[i]);
+			}
+		}
+		Arrays.fill(dirty, 0);
+	}
+
+	@SuppressWarnings("unchecked")
+	public void read(ExtendedPacketBuffer buffer) {
+		// The client never sends, the dirty bits hold the received mask
+		for (int word = 0; word < dirty.length; word++) {
+			dirty[word] = buffer.readVarLong();
+		}
+
+		for (int i = 0; i < size; i++) {
+			if ((dirty[i >>> 6] & 1L << i) == 0) {
+				continue;
+			}
+
+			switch (types[i]) {
+				case INT -> ((IntConsumer) setters[i]).accept(buffer.readVarInt());
+				case LONG -> ((LongConsumer) setters[i]).accept(buffer.readVarLong());
+				case BOOLEAN -> ((BooleanConsumer) setters[i]).accept(buffer.readBoolean());
+				default -> ((Consumer<Object>) setters[i]).accept(buffer.readObject());
+			}
+		}
+		Arrays.fill(dirty, 0);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.util;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+
+import java.util.function.Consumer;
+
+/**
+ * Redirects the item drops of blocks broken in a world to a consumer instead of spawning them, so that callers
+ * breaking many blocks at once can merge them.
+ */
+public final class DropCapture {
+	private static World world;
+	private static Consumer<ItemStack> consumer;
+
+	private DropCapture() {
+	}
+
+	/**
+	 * Starts capturing drops in the given world, must always be followed by {@link #end()}.
+	 *
+	 * @param world    {@link World} World to capture drops in
+	 * @param consumer {@link Consumer} Receives every captured stack
+	 */
+	public static void begin(World world, Consumer<ItemStack> consumer) {
+		if (DropCapture.consumer != null) {
+			throw new IllegalStateException("Drops are already being captured");
+		}
+		DropCapture.world = world;
+		DropCapture.consumer = consumer;
+	}
+
+	public static void end() {
+		world = null;
+		consumer = null;
+	}
+
+	/**
+	 * @return {@code boolean} True if the stack was captured and should not be spawned
+	 */
+	public static boolean capture(World world, ItemStack stack) {
+		if (consumer == null || world != DropCapture.world || stack.isEmpty()) {
+			return false;
+		}
+		consumer.accept(stack);
+		return true;
+	}
+}
@@ -213,4 +213,9 @@ public class Tank extends SnapshotParticipant<FluidInstance> implements Syncable
 	protected void readSnapshot(FluidInstance snapshot) {
 		setFluidInstance(snapshot);
 	}
+
+	@Override
+	protected void onFinalCommit() {
+		blockEntity.markDirty();
+	}
 }
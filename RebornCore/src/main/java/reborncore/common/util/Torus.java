@@ -24,86 +24,151 @@
 
 package reborncore.common.util;
 
-import com.google.common.collect.ImmutableList;
-import it.unimi.dsi.fastutil.ints.Int2IntMap;
-import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import net.minecraft.util.math.BlockPos;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed torus templates used by the fusion reactor.
+ *
+ * <p>Each template is a sorted array of packed block offsets relative to the torus centre,
+ * see {@link #getX(int)}, {@link #getY(int)} and {@link #getZ(int)} to unpack them.
+ * Templates are generated once in parallel and shared read only between threads.
+ */
 public class Torus {
-	private static final ExecutorService GEN_EXECUTOR = Executors.newSingleThreadExecutor();
-	private static Int2IntMap torusSizeCache;
-	private static Int2ObjectOpenHashMap<ImmutableList<BlockPos>> torusListCache;
-	public static List<BlockPos> generate(BlockPos origin, int radius) {
-		List<BlockPos> posLists = new ArrayList<>();
-		for (int x = -radius; x < radius; x++) {
-			for (int y = -radius; y < radius; y++) {
-				for (int z = -radius; z < radius; z++) {
-					if (Math.pow(radius / 2 - Math.sqrt(Math.pow(x, 2) + Math.pow(y, 2)), 2) + Math.pow(z, 2) < Math.pow(radius * 0.05, 2)) {
-						posLists.add(origin.add(x, z, y));
-					}
-				}
-			}
-		}
+	private static final int BITS = 21;
+	private static final long MASK = (1L << BITS) - 1;
+	private static final int BIAS = 1 << (BITS - 1);
+
+	private static volatile CompletableFuture<long[][]> templates;
 
-		return posLists;
-	}
-	public static List<BlockPos> getOriginPositions(int radius){
-		return torusListCache.get(radius);
-	}
 	public static void genSizeMap(int maxRadius) {
-		if (torusSizeCache != null) {
+		if (templates != null) {
 			// Let's not do this again
 			return;
 		}
 		// 10 is added as the control computer has a base of around 6 less
 		final int sizeToCompute = maxRadius + 10;
 
-		torusSizeCache = new Int2IntOpenHashMap(sizeToCompute);
-		torusListCache = new Int2ObjectOpenHashMap<>(sizeToCompute);
-		for (int i = 0; i < sizeToCompute; i++) {
-			final int radius = i;
-			GEN_EXECUTOR.submit(() -> {
-				int size = 0;
-				ArrayList<BlockPos> list = new ArrayList<>();
-				for (int x = -radius; x < radius; x++) {
-					for (int y = -radius; y < radius; y++) {
-						for (int z = -radius; z < radius; z++) {
-							if (Math.pow(radius / 2 - Math.sqrt(Math.pow(x, 2) + Math.pow(y, 2)), 2) + Math.pow(z, 2) < Math.pow(radius * 0.05, 2)) {
-								size++;
-								list.add(new BlockPos(x,z,y));
-							}
-						}
+		templates = CompletableFuture.supplyAsync(() -> IntStream.range(0, sizeToCompute)
+				.parallel()
+				.mapToObj(Torus::generateOffsets)
+				.toArray(long[][]::new));
+	}
+
+	/**
+	 * Returns the packed offsets of the torus with the given radius. The returned array is shared and must not be modified.
+	 *
+	 * @param radius {@code int} Radius of the torus
+	 * @return {@code long[]} Sorted packed offsets
+	 */
+	public static long[] getOffsets(int radius) {
+		CompletableFuture<long[][]> future = templates;
+		if (future != null) {
+			long[][] cache = future.join();
+			if (radius >= 0 && radius < cache.length) {
+				return cache[radius];
+			}
+		}
+		return generateOffsets(radius);
+	}
+
+	/**
+	 * @param radius {@code int} Radius of the torus
+	 * @return {@code int} Amount of blocks that make up the torus
+	 */
+	public static int getSize(int radius) {
+		return getOffsets(radius).length;
+	}
+
+	public static int getX(long offset) {
+		return (int) ((offset >> (BITS * 2)) & MASK) - BIAS;
+	}
+
+	public static int getY(long offset) {
+		return (int) (offset & MASK) - BIAS;
+	}
+
+	public static int getZ(long offset) {
+		return (int) ((offset >> BITS) & MASK) - BIAS;
+	}
+
+	private static long pack(int x, int y, int z) {
+		return ((long) (x + BIAS) << (BITS * 2)) | ((long) (z + BIAS) << BITS) | (y + BIAS);
+	}
+
+	private static long[] generateOffsets(int radius) {
+		if (radius <= 0) {
+			return new long[0];
+		}
+		if (radius >= BIAS) {
+			throw new IllegalArgumentException("Torus radius too large: " + radius);
+		}
+		final int ringRadius = radius / 2;
+		final double maxDistanceSq = (radius * 0.05) * (radius * 0.05);
+
+		// The shape only depends on the horizontal distance and the height, so only one octant
+		// of the horizontal plane is tested and the hits are mirrored into the others.
+		LongOpenHashSet offsets = new LongOpenHashSet();
+		for (int y = 0; y * y < maxDistanceSq; y++) {
+			// Each layer is a ring, the blocks in it are the ones with a squared horizontal distance in [minSq, maxSq]
+			final long ringSq = (long) ringRadius * ringRadius;
+			final long minSq = findBound(ringRadius, maxDistanceSq, y, 0, ringSq, false);
+			final long maxSq = findBound(ringRadius, maxDistanceSq, y, ringSq, 2L * radius * radius, true);
+
+			for (int a = 0; a < radius && 2L * a * a <= maxSq; a++) {
+				for (int b = a; b < radius; b++) {
+					final long distanceSq = (long) a * a + (long) b * b;
+					if (distanceSq > maxSq) {
+						break;
+					}
+					if (distanceSq >= minSq) {
+						addMirrored(offsets, a, b, y);
+						addMirrored(offsets, b, a, y);
 					}
 				}
-				torusSizeCache.put(radius, size);
-				torusListCache.put(radius, ImmutableList.copyOf(list));
-			});
+			}
 		}
 
-		// Finish running the tasks, and then shutdown the ExecutorService. This call does not stall the main thread
-		GEN_EXECUTOR.shutdown();
+		long[] result = offsets.toLongArray();
+		// Sorting keeps the x, z, y order the templates were originally generated in
+		Arrays.sort(result);
+		return result;
 	}
 
 	/**
-	 * @return {@link Int2IntMap}
-	 * @throws RuntimeException If failed to initialize the map
+	 * Binary searches the edge of a ring layer, between the ring centre and the given limit. The tube test is done
+	 * exactly as before so the edge matches the original floating point shape, it is only done O(log n) times per layer.
+	 *
+	 * @param outer {@code boolean} Whether to find the largest squared distance inside the tube, rather than the smallest
 	 */
-	public static Int2IntMap getTorusSizeCache() {
-		if (!GEN_EXECUTOR.isShutdown()) {
-			try {
-				GEN_EXECUTOR.awaitTermination(1, TimeUnit.SECONDS);
-			} catch (InterruptedException e) {
-				throw new RuntimeException("Reborn core failed to initialize the torus cache", e);
+	private static long findBound(int ringRadius, double maxDistanceSq, int y, long from, long to, boolean outer) {
+		long inside = outer ? from : to;
+		long outside = outer ? to + 1 : from - 1;
+		while (Math.abs(outside - inside) > 1) {
+			long mid = (inside + outside) >>> 1;
+			if (isInTube(ringRadius, maxDistanceSq, y, mid)) {
+				inside = mid;
+			} else {
+				outside = mid;
 			}
 		}
+		return inside;
+	}
+
+	private static boolean isInTube(int ringRadius, double maxDistanceSq, int y, long distanceSq) {
+		double distance = ringRadius - Math.sqrt(distanceSq);
+		return distance * distance + y * y < maxDistanceSq;
+	}
 
-		return torusSizeCache;
+	private static void addMirrored(LongOpenHashSet offsets, int x, int z, int y) {
+		for (int sx = -1; sx <= 1; sx += 2) {
+			for (int sz = -1; sz <= 1; sz += 2) {
+				offsets.add(pack(x * sx, y, z * sz));
+				offsets.add(pack(x * sx, -y, z * sz));
+			}
+		}
 	}
 }
@@ -0,0 +1,69 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.test.multiblock
+
+import com.google.common.truth.Truth
+import net.minecraft.test.GameTest
+import reborncore.common.util.Torus
+import techreborn.test.TRGameTest
+import techreborn.test.TRTestContext
+
+/**
+ * Checks that the precomputed fusion reactor torus templates match the original shape.
+ */
+class TorusTests extends TRGameTest {
+	@GameTest(structureName = "fabric-gametest-api-v1:empty", tickLimit = 150)
+	def testTemplates(TRTestContext context) {
+		[0, 1, 6, 13, 30, 50].each { radius ->
+			def offsets = Torus.getOffsets(radius).collect { [Torus.getX(it), Torus.getY(it), Torus.getZ(it)] }
+
+			Truth.assertWithMessage("radius $radius")
+					.that(offsets)
+					.containsExactlyElementsIn(generate(radius))
+					.inOrder()
+			Truth.assertThat(Torus.getSize(radius))
+					.isEqualTo(offsets.size())
+		}
+
+		context.complete()
+	}
+
+	/**
+	 * The torus generation the templates replaced.
+	 */
+	static List<List<Integer>> generate(int radius) {
+		def positions = []
+		for (int x = -radius; x < radius; x++) {
+			for (int y = -radius; y < radius; y++) {
+				for (int z = -radius; z < radius; z++) {
+					if (Math.pow(radius.intdiv(2) - Math.sqrt(Math.pow(x, 2) + Math.pow(y, 2)), 2) + Math.pow(z, 2) < Math.pow(radius * 0.05d, 2)) {
+						positions << [x, z, y]
+					}
+				}
+			}
+		}
+		return positions
+	}
+}
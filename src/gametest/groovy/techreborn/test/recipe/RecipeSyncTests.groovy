@@ -25,6 +25,7 @@
 package techreborn.test.recipe
 
 import com.google.common.truth.Truth
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs
 import net.minecraft.test.GameTest
 import reborncore.common.crafting.RebornRecipe
 import reborncore.common.crafting.RebornRecipeType
@@ -33,7 +34,7 @@ import techreborn.test.TRGameTest
 import techreborn.test.TRTestContext
 
 /**
- * A bit of a mess, but checks that we can ser/de all recipes to and from json.
+ * A bit of a mess, but checks that we can ser/de all recipes to and from json and the network format.
  */
 class RecipeSyncTests extends TRGameTest {
 	@GameTest(structureName = "fabric-gametest-api-v1:empty", tickLimit = 150)
@@ -65,5 +66,23 @@ class RecipeSyncTests extends TRGameTest {
 
 		// And check we can create a data json
 		def dataJson = type.toJson(newRecipe, false).deepCopy()
+
+		// Check the binary network format reads back to the same recipe
+		def buffer = PacketByteBufs.create()
+		type.write(buffer, recipe)
+		def firstBytes = buffer.readableBytes()
+		def packetRecipe = type.read(recipe.id, buffer)
+
+		Truth.assertThat(buffer.readableBytes())
+				.isEqualTo(0)
+		Truth.assertThat(type.toJson(packetRecipe, true).toString())
+				.isEqualTo(firstJson.toString())
+
+		// The encoded recipe is cached, so writing it again must produce the same payload
+		def secondBuffer = PacketByteBufs.create()
+		type.write(secondBuffer, recipe)
+
+		Truth.assertThat(secondBuffer.readableBytes())
+				.isEqualTo(firstBytes)
 	}
 }
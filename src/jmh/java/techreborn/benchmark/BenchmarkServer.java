@@ -0,0 +1,123 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package techreborn.benchmark;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Gives the benchmarks access to the running server. The world must only be touched on the server thread,
+ * so any world access (including reading block entities) goes through {@link #run(Runnable)} or
+ * {@link #call(Supplier)}. Benchmarks should batch their operations into a single call to keep the hand over
+ * out of the measurement as much as possible.
+ */
+public final class BenchmarkServer {
+	@Nullable
+	private static MinecraftServer server;
+
+	private BenchmarkServer() {
+	}
+
+	static void setServer(@Nullable MinecraftServer server) {
+		BenchmarkServer.server = server;
+	}
+
+	public static MinecraftServer server() {
+		Validate.notNull(server, "Benchmarks must be run with the jmh run config");
+		return server;
+	}
+
+	public static ServerWorld world() {
+		return server().getOverworld();
+	}
+
+	public static void run(Runnable runnable) {
+		server().submitAndJoin(runnable);
+	}
+
+	public static <T> T call(Supplier<T> supplier) {
+		return server().submit(supplier).join();
+	}
+
+	/**
+	 * Must be called on the server thread.
+	 */
+	public static void setTime(long time) {
+		server().getSaveProperties().getMainWorldProperties().setTime(time);
+	}
+
+	/**
+	 * Force loads the chunks of the area so placed blocks stay loaded for the whole benchmark.
+	 * Must be called on the server thread.
+	 */
+	public static void forceLoad(BlockPos from, BlockPos to, boolean forced) {
+		ServerWorld world = world();
+		ChunkPos min = new ChunkPos(from);
+		ChunkPos max = new ChunkPos(to);
+		for (int x = min.x; x <= max.x; x++) {
+			for (int z = min.z; z <= max.z; z++) {
+				world.setChunkForced(x, z, forced);
+			}
+		}
+	}
+
+	/**
+	 * Must be called on the server thread.
+	 */
+	public static void place(BlockPos pos, BlockState state) {
+		world().setBlockState(pos, state);
+	}
+
+	/**
+	 * Must be called on the server thread.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends BlockEntity> T blockEntity(BlockPos pos) {
+		BlockEntity blockEntity = world().getBlockEntity(pos);
+		Validate.notNull(blockEntity, "No block entity at " + pos);
+		return (T) blockEntity;
+	}
+
+	/**
+	 * Removes everything placed in the area and releases its chunks. Must be called on the server thread.
+	 */
+	public static void clear(BlockPos from, BlockPos to) {
+		ServerWorld world = world();
+		for (BlockPos pos : BlockPos.iterate(from, to)) {
+			world.setBlockState(pos, Blocks.AIR.getDefaultState());
+		}
+		forceLoad(from, to, false);
+	}
+}
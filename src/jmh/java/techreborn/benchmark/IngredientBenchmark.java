@@ -0,0 +1,111 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package techreborn.benchmark;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.tag.ItemTags;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reborncore.common.crafting.ingredient.StackIngredient;
+import reborncore.common.crafting.ingredient.TagIngredient;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingredient matching, this runs for every recipe and slot when a machine looks for a recipe.
+ * Tags are bound by the running server, so this does not need the server thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+public class IngredientBenchmark {
+	private StackIngredient stackIngredient;
+	private StackIngredient nbtIngredient;
+	private TagIngredient tagIngredient;
+
+	private ItemStack matchingStack;
+	private ItemStack otherStack;
+	private ItemStack nbtStack;
+	private ItemStack logStack;
+
+	@Setup
+	public void setup() {
+		NbtCompound nbt = new NbtCompound();
+		nbt.putInt("level", 3);
+		nbt.putString("type", "benchmark");
+
+		stackIngredient = new StackIngredient(new ItemStack(Items.COAL), Optional.of(2), Optional.empty(), false);
+		nbtIngredient = new StackIngredient(new ItemStack(Items.PAPER), Optional.empty(), Optional.of(nbt), false);
+		tagIngredient = new TagIngredient(ItemTags.LOGS, Optional.empty());
+
+		matchingStack = new ItemStack(Items.COAL, 16);
+		otherStack = new ItemStack(Items.STONE, 16);
+		nbtStack = new ItemStack(Items.PAPER);
+		NbtCompound stackNbt = nbt.copy();
+		stackNbt.putBoolean("extra", true);
+		nbtStack.setNbt(stackNbt);
+		logStack = new ItemStack(Items.OAK_LOG);
+	}
+
+	@Benchmark
+	public boolean stackMatch() {
+		return stackIngredient.test(matchingStack);
+	}
+
+	@Benchmark
+	public boolean stackMiss() {
+		return stackIngredient.test(otherStack);
+	}
+
+	@Benchmark
+	public boolean stackNbtMatch() {
+		return nbtIngredient.test(nbtStack);
+	}
+
+	@Benchmark
+	public boolean tagMatch() {
+		return tagIngredient.test(logStack);
+	}
+
+	@Benchmark
+	public boolean tagMiss() {
+		return tagIngredient.test(otherStack);
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package techreborn.benchmark;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.BlockView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reborncore.common.blockentity.MultiblockWriter;
+import techreborn.blockentity.machine.multiblock.fusion.FusionControlComputerBlockEntity;
+import techreborn.init.TRContent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+/**
+ * Full verification of a complete fusion reactor ring, skipping the validity cache of the machine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+public class MultiblockBenchmark {
+	private static final int OPS = 16;
+	private static final BlockPos POS = new BlockPos(3072, 200, 1024);
+
+	@Param({"6", "24", "50"})
+	public int size;
+
+	private BlockPos min;
+	private BlockPos max;
+	private FusionControlComputerBlockEntity controller;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		min = POS.add(-size - 2, -1, -size - 2);
+		max = POS.add(size + 2, 1, size + 2);
+
+		BenchmarkServer.run(() -> {
+			BenchmarkServer.forceLoad(min, max, true);
+			BenchmarkServer.place(POS, TRContent.Machine.FUSION_CONTROL_COMPUTER.block.getDefaultState());
+
+			controller = BenchmarkServer.blockEntity(POS);
+			controller.size = size;
+			controller.writeMultiblock(new Placer().rotate(controller.getFacing().getOpposite()));
+
+			if (!verify(BenchmarkServer.world())) {
+				throw new IllegalStateException("Fusion reactor was not placed correctly");
+			}
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkServer.run(() -> BenchmarkServer.clear(min, max));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPS)
+	public int verify() {
+		return BenchmarkServer.call(() -> {
+			ServerWorld world = BenchmarkServer.world();
+			int valid = 0;
+			for (int i = 0; i < OPS; i++) {
+				if (verify(world)) {
+					valid++;
+				}
+			}
+			return valid;
+		});
+	}
+
+	private boolean verify(ServerWorld world) {
+		MultiblockWriter.MultiblockVerifier verifier = new MultiblockWriter.MultiblockVerifier(POS, world);
+		controller.writeMultiblock(verifier.rotate(controller.getFacing().getOpposite()));
+		return verifier.isValid();
+	}
+
+	private static class Placer implements MultiblockWriter {
+		@Override
+		public MultiblockWriter add(int x, int y, int z, BiPredicate<BlockView, BlockPos> predicate, BlockState state) {
+			BenchmarkServer.place(POS.add(x, y, z), state);
+			return this;
+		}
+	}
+}
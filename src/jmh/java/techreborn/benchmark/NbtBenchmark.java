@@ -0,0 +1,127 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package techreborn.benchmark;
+
+import net.minecraft.block.Block;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reborncore.common.blockentity.MachineBaseBlockEntity;
+import reborncore.common.util.RebornInventory;
+import techreborn.init.TRContent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving and loading the block entities with the largest NBT, every slot of their inventory is filled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+public class NbtBenchmark {
+	private static final int OPS = 64;
+	private static final BlockPos POS = new BlockPos(5120, 200, 1024);
+
+	@Param({"storage_unit", "tank_unit", "fusion_control_computer", "industrial_grinder", "auto_crafting_table"})
+	public String blockEntity;
+
+	private MachineBaseBlockEntity machine;
+	private NbtCompound nbt;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Block block = switch (blockEntity) {
+			case "storage_unit" -> TRContent.StorageUnit.QUANTUM.block;
+			case "tank_unit" -> TRContent.TankUnit.QUANTUM.block;
+			case "fusion_control_computer" -> TRContent.Machine.FUSION_CONTROL_COMPUTER.block;
+			case "industrial_grinder" -> TRContent.Machine.INDUSTRIAL_GRINDER.block;
+			case "auto_crafting_table" -> TRContent.Machine.AUTO_CRAFTING_TABLE.block;
+			default -> throw new IllegalArgumentException("Unknown block entity " + blockEntity);
+		};
+
+		BenchmarkServer.run(() -> {
+			BenchmarkServer.forceLoad(POS, POS, true);
+			BenchmarkServer.place(POS, block.getDefaultState());
+
+			machine = BenchmarkServer.blockEntity(POS);
+			machine.getOptionalInventory().ifPresent(NbtBenchmark::fill);
+			nbt = machine.createNbt();
+		});
+	}
+
+	private static void fill(RebornInventory<?> inventory) {
+		for (int i = 0; i < inventory.size(); i++) {
+			ItemStack stack = new ItemStack(Items.WRITTEN_BOOK, 16);
+			stack.getOrCreateNbt().putString("title", "Benchmark " + i);
+			inventory.setStack(i, stack);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkServer.run(() -> BenchmarkServer.clear(POS, POS));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPS)
+	public NbtCompound write() {
+		return BenchmarkServer.call(() -> {
+			NbtCompound last = null;
+			for (int i = 0; i < OPS; i++) {
+				last = machine.createNbt();
+			}
+			return last;
+		});
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPS)
+	public void read() {
+		BenchmarkServer.run(() -> {
+			for (int i = 0; i < OPS; i++) {
+				machine.readNbt(nbt);
+			}
+		});
+	}
+}
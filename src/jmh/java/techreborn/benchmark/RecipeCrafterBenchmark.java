@@ -0,0 +1,102 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package techreborn.benchmark;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reborncore.api.recipe.IRecipeCrafterProvider;
+import reborncore.common.blockentity.MachineBaseBlockEntity;
+import reborncore.common.recipes.RecipeCrafter;
+import techreborn.init.TRContent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recipe lookup of an unpowered grinder against the full set of loaded grinder recipes,
+ * once with an input that has a recipe and once with one that never matches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+public class RecipeCrafterBenchmark {
+	private static final int OPS = 256;
+	private static final BlockPos POS = new BlockPos(2048, 200, 1024);
+
+	@Param({"matching", "missing"})
+	public String input;
+
+	private RecipeCrafter crafter;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Item item = input.equals("matching") ? Items.BLAZE_ROD : Items.BEDROCK;
+
+		BenchmarkServer.run(() -> {
+			BenchmarkServer.forceLoad(POS, POS, true);
+			BenchmarkServer.place(POS, TRContent.Machine.GRINDER.block.getDefaultState());
+
+			MachineBaseBlockEntity machine = BenchmarkServer.blockEntity(POS);
+			machine.getOptionalInventory().orElseThrow().setStack(0, new ItemStack(item, 64));
+			crafter = ((IRecipeCrafterProvider) machine).getRecipeCrafter();
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkServer.run(() -> BenchmarkServer.clear(POS, POS));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPS)
+	public void updateEntity() {
+		BenchmarkServer.run(() -> {
+			for (int i = 0; i < OPS; i++) {
+				crafter.currentRecipe = null;
+				crafter.setInvDirty(true);
+				crafter.updateEntity();
+			}
+		});
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package techreborn.benchmark;
+
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.ChestBlockEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reborncore.common.blockentity.MachineBaseBlockEntity;
+import reborncore.common.blockentity.SlotConfiguration;
+import reborncore.common.util.RebornInventory;
+import techreborn.init.TRContent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Item auto IO of a grinder pulling from a chest on the north side and pushing into a chest on the south side.
+ * In the moving state every update moves items both ways, in the idle state the input slot is full and the
+ * output slot is empty so nothing can move.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+public class SlotConfigurationBenchmark {
+	private static final int OPS = 64;
+	private static final BlockPos POS = new BlockPos(4096, 200, 1024);
+
+	@Param({"moving", "idle"})
+	public String state;
+
+	private MachineBaseBlockEntity machine;
+	private RebornInventory<?> inventory;
+	private ChestBlockEntity inputChest;
+	private ChestBlockEntity outputChest;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkServer.run(() -> {
+			BenchmarkServer.forceLoad(POS.north(), POS.south(), true);
+			BenchmarkServer.place(POS, TRContent.Machine.GRINDER.block.getDefaultState());
+			BenchmarkServer.place(POS.north(), Blocks.CHEST.getDefaultState());
+			BenchmarkServer.place(POS.south(), Blocks.CHEST.getDefaultState());
+
+			machine = BenchmarkServer.blockEntity(POS);
+			inventory = machine.getOptionalInventory().orElseThrow();
+			inputChest = BenchmarkServer.blockEntity(POS.north());
+			outputChest = BenchmarkServer.blockEntity(POS.south());
+
+			SlotConfiguration slotConfiguration = machine.getSlotConfiguration();
+
+			SlotConfiguration.SlotConfigHolder input = slotConfiguration.getSlotDetails(0);
+			input.updateSlotConfig(new SlotConfiguration.SlotConfig(Direction.NORTH, new SlotConfiguration.SlotIO(SlotConfiguration.ExtractConfig.INPUT), 0));
+			input.setInput(true);
+
+			SlotConfiguration.SlotConfigHolder output = slotConfiguration.getSlotDetails(1);
+			output.updateSlotConfig(new SlotConfiguration.SlotConfig(Direction.SOUTH, new SlotConfiguration.SlotIO(SlotConfiguration.ExtractConfig.OUTPUT), 1));
+			output.setOutput(true);
+
+			if (state.equals("idle")) {
+				inventory.setStack(0, new ItemStack(Items.BLAZE_ROD, 64));
+			}
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkServer.run(() -> BenchmarkServer.clear(POS.north(), POS.south()));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPS)
+	public void update() {
+		BenchmarkServer.run(() -> {
+			long time = BenchmarkServer.world().getTime();
+			BenchmarkServer.setTime(time - time % machine.slotTransferSpeed());
+
+			boolean moving = state.equals("moving");
+			for (int i = 0; i < OPS; i++) {
+				if (moving) {
+					inventory.setStack(0, ItemStack.EMPTY);
+					inventory.setStack(1, new ItemStack(Items.BLAZE_POWDER, 4));
+					inputChest.setStack(0, new ItemStack(Items.BLAZE_ROD, 64));
+					outputChest.clear();
+				}
+				machine.getSlotConfiguration().update(machine);
+			}
+		});
+	}
+}
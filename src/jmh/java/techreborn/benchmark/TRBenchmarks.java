@@ -0,0 +1,82 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package techreborn.benchmark;
+
+import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.server.MinecraftServer;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the JMH benchmarks inside a dedicated server once it has started, so the benchmarks see the real
+ * registries, tags, recipes and mixins. The benchmarks run in the server process (no forks), world access
+ * is handed over to the server thread through {@link BenchmarkServer}.
+ *
+ * Only active when started with -Dtechreborn.jmh=true, see the jmh run config.
+ */
+public class TRBenchmarks implements ModInitializer {
+	private static final Logger LOGGER = LoggerFactory.getLogger("techreborn-jmh");
+
+	@Override
+	public void onInitialize() {
+		if (!Boolean.getBoolean("techreborn.jmh")) {
+			return;
+		}
+
+		ServerLifecycleEvents.SERVER_STARTED.register(server -> {
+			BenchmarkServer.setServer(server);
+
+			Thread thread = new Thread(() -> runBenchmarks(server), "TechReborn Benchmarks");
+			thread.setDaemon(true);
+			thread.start();
+		});
+		ServerLifecycleEvents.SERVER_STOPPING.register(server -> BenchmarkServer.setServer(null));
+	}
+
+	private static void runBenchmarks(MinecraftServer server) {
+		Options options = new OptionsBuilder()
+				.include(System.getProperty("techreborn.jmh.include", "techreborn\\..*"))
+				.forks(0)
+				.shouldFailOnError(true)
+				.resultFormat(ResultFormatType.JSON)
+				.result(System.getProperty("techreborn.jmh.result", "jmh-result.json"))
+				.build();
+
+		try {
+			new Runner(options).run();
+		} catch (RunnerException e) {
+			LOGGER.error("Failed to run benchmarks", e);
+		} finally {
+			server.stop(false);
+		}
+	}
+}
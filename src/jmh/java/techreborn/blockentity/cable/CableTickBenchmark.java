@@ -0,0 +1,110 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package techreborn.blockentity.cable;
+
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import techreborn.benchmark.BenchmarkServer;
+import techreborn.init.TRContent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticks a square grid of copper cables, with creative solar panels on top and low voltage storage units
+ * below every 8th cable. Lives in the cable package to reach the network internals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(0)
+public class CableTickBenchmark {
+	private static final int OPS = 16;
+	private static final BlockPos ORIGIN = new BlockPos(1024, 200, 1024);
+
+	@Param({"16", "256", "4096"})
+	public int cableCount;
+
+	private BlockPos max;
+	private CableBlockEntity cable;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		int side = (int) Math.sqrt(cableCount);
+		max = ORIGIN.add(side - 1, 1, side - 1);
+
+		BenchmarkServer.run(() -> {
+			BenchmarkServer.forceLoad(ORIGIN.down(), max, true);
+
+			for (int x = 0; x < side; x++) {
+				for (int z = 0; z < side; z++) {
+					BlockPos pos = ORIGIN.add(x, 0, z);
+					BenchmarkServer.place(pos, TRContent.Cables.COPPER.block.getDefaultState());
+					if ((x + z * side) % 8 == 0) {
+						BenchmarkServer.place(pos.up(), TRContent.SolarPanels.CREATIVE.block.getDefaultState());
+						BenchmarkServer.place(pos.down(), TRContent.Machine.LOW_VOLTAGE_SU.block.getDefaultState());
+					}
+				}
+			}
+
+			cable = BenchmarkServer.blockEntity(ORIGIN);
+			CableTickManager.handleCableTick(cable);
+			if (cable.network == null || cable.network.cables.size() != side * side) {
+				throw new IllegalStateException("Cable network was not built");
+			}
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkServer.run(() -> BenchmarkServer.clear(ORIGIN.down(), max));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPS)
+	public void tickNetwork() {
+		BenchmarkServer.run(() -> {
+			for (int i = 0; i < OPS; i++) {
+				cable.network.lastTick = -1;
+				CableTickManager.handleCableTick(cable);
+			}
+		});
+	}
+}
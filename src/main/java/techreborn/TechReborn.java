@@ -40,6 +40,7 @@ import reborncore.common.config.Configuration;
 import reborncore.common.recipes.RecipeCrafter;
 import reborncore.common.util.Torus;
 import techreborn.blockentity.GuiType;
+import techreborn.blockentity.generator.SolarModel;
 import techreborn.compat.trinkets.Trinkets;
 import techreborn.config.TechRebornConfig;
 import techreborn.events.ApplyArmorToDamageHandler;
@@ -48,6 +49,7 @@ import techreborn.events.UseBlockHandler;
 import techreborn.init.*;
 import techreborn.init.template.TechRebornTemplates;
 import techreborn.items.DynamicCellItem;
+import techreborn.items.tool.industrial.TreeFellingJob;
 import techreborn.packets.ServerboundPackets;
 import techreborn.utils.PoweredCraftingHandler;
 import techreborn.world.WorldGenerator;
@@ -97,6 +99,8 @@ public class TechReborn implements ModInitializer {
 		UseBlockHandler.init();
 		ApplyArmorToDamageHandler.init();
 		FuelRecipes.init();
+		TreeFellingJob.init();
+		SolarModel.init();
 
 		Torus.genSizeMap(TechRebornConfig.fusionControlComputerMaxCoilSize);
 
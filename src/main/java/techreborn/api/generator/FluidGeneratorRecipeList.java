@@ -25,31 +25,45 @@
 package techreborn.api.generator;
 
 import com.google.common.collect.Sets;
+import net.minecraft.fluid.FlowableFluid;
 import net.minecraft.fluid.Fluid;
-import reborncore.common.fluid.FluidUtils;
 
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * The recipes of a fluid generator, indexed by their still fluid. Recipes should be changed through
+ * {@link #addRecipe(FluidGeneratorRecipe)}, {@link #removeRecipe(FluidGeneratorRecipe)} and
+ * {@link #setRecipes(HashSet)} to keep the index in sync.
+ */
 public class FluidGeneratorRecipeList {
 	private HashSet<FluidGeneratorRecipe> recipes;
+	private final Map<Fluid, FluidGeneratorRecipe> recipesByFluid = new IdentityHashMap<>();
 
 	public FluidGeneratorRecipeList(FluidGeneratorRecipe... recipes) {
-		this.recipes = Sets.newHashSet(recipes);
+		setRecipes(Sets.newHashSet(recipes));
 	}
 
 	public boolean addRecipe(FluidGeneratorRecipe fluidGeneratorRecipe) {
-		if (!this.getRecipeForFluid(fluidGeneratorRecipe.fluid()).isPresent())
+		if (!this.getRecipeForFluid(fluidGeneratorRecipe.fluid()).isPresent()) {
+			recipesByFluid.put(getStill(fluidGeneratorRecipe.fluid()), fluidGeneratorRecipe);
 			return this.getRecipes().add(fluidGeneratorRecipe);
+		}
 		return false;
 	}
 
 	public boolean removeRecipe(FluidGeneratorRecipe fluidGeneratorRecipe) {
-		return this.getRecipes().remove(fluidGeneratorRecipe);
+		if (this.getRecipes().remove(fluidGeneratorRecipe)) {
+			recipesByFluid.remove(getStill(fluidGeneratorRecipe.fluid()), fluidGeneratorRecipe);
+			return true;
+		}
+		return false;
 	}
 
 	public Optional<FluidGeneratorRecipe> getRecipeForFluid(Fluid fluid) {
-		return this.recipes.stream().filter(recipe -> FluidUtils.fluidEquals(recipe.fluid(), fluid)).findAny();
+		return Optional.ofNullable(recipesByFluid.get(getStill(fluid)));
 	}
 
 	public HashSet<FluidGeneratorRecipe> getRecipes() {
@@ -58,6 +72,20 @@ public class FluidGeneratorRecipeList {
 
 	public void setRecipes(HashSet<FluidGeneratorRecipe> recipes) {
 		this.recipes = recipes;
+		recipesByFluid.clear();
+		for (FluidGeneratorRecipe recipe : recipes) {
+			recipesByFluid.putIfAbsent(getStill(recipe.fluid()), recipe);
+		}
+	}
+
+	/**
+	 * Flowing and still fluids share their recipe
+	 */
+	private static Fluid getStill(Fluid fluid) {
+		if (fluid instanceof FlowableFluid flowableFluid) {
+			return flowableFluid.getStill();
+		}
+		return fluid;
 	}
 
 	@Override
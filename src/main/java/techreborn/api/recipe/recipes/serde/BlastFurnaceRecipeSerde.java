@@ -26,6 +26,7 @@ package techreborn.api.recipe.recipes.serde;
 
 import com.google.gson.JsonObject;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import reborncore.common.crafting.RebornRecipeType;
@@ -46,4 +47,15 @@ public class BlastFurnaceRecipeSerde extends RebornRecipeSerde<BlastFurnaceRecip
 	public void collectJsonData(BlastFurnaceRecipe recipe, JsonObject jsonObject, boolean networkSync) {
 		jsonObject.addProperty("heat", recipe.getHeat());
 	}
+
+	@Override
+	protected BlastFurnaceRecipe fromPacket(PacketByteBuf buffer, RebornRecipeType<BlastFurnaceRecipe> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time) {
+		final int heat = buffer.readVarInt();
+		return new BlastFurnaceRecipe(type, name, ingredients, outputs, power, time, heat);
+	}
+
+	@Override
+	protected void collectPacketData(BlastFurnaceRecipe recipe, PacketByteBuf buffer) {
+		buffer.writeVarInt(recipe.getHeat());
+	}
 }
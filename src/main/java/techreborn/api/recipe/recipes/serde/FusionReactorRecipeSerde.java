@@ -26,6 +26,7 @@ package techreborn.api.recipe.recipes.serde;
 
 import com.google.gson.JsonObject;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import reborncore.common.crafting.RebornRecipeType;
@@ -48,4 +49,17 @@ public class FusionReactorRecipeSerde extends RebornRecipeSerde<FusionReactorRec
 		jsonObject.addProperty("start-power", recipe.getStartEnergy());
 		jsonObject.addProperty("min-size", recipe.getMinSize());
 	}
+
+	@Override
+	protected FusionReactorRecipe fromPacket(PacketByteBuf buffer, RebornRecipeType<FusionReactorRecipe> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time) {
+		final int startE = buffer.readVarInt();
+		final int minSize = buffer.readVarInt();
+		return new FusionReactorRecipe(type, name, ingredients, outputs, power, time, startE, minSize);
+	}
+
+	@Override
+	protected void collectPacketData(FusionReactorRecipe recipe, PacketByteBuf buffer) {
+		buffer.writeVarInt(recipe.getStartEnergy());
+		buffer.writeVarInt(recipe.getMinSize());
+	}
 }
@@ -2,6 +2,7 @@ package techreborn.api.recipe.recipes.serde;
 
 import com.google.gson.JsonObject;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.recipe.RecipeSerializer;
 import net.minecraft.recipe.ShapedRecipe;
 import net.minecraft.util.Identifier;
@@ -10,6 +11,7 @@ import reborncore.common.crafting.RebornRecipeType;
 import reborncore.common.crafting.ShapedRecipeHelper;
 import reborncore.common.crafting.ingredient.RebornIngredient;
 import reborncore.common.crafting.serde.RebornRecipeSerde;
+import reborncore.common.util.serialization.SerializationUtil;
 import techreborn.api.recipe.recipes.RollingMachineRecipe;
 
 import java.util.Collections;
@@ -17,6 +19,9 @@ import java.util.List;
 import java.util.Objects;
 
 public class RollingMachineRecipeSerde extends RebornRecipeSerde<RollingMachineRecipe> {
+	// Expanded tags can make the synced shaped json larger than the default string limit
+	private static final int MAX_SHAPED_JSON_LENGTH = 262144;
+
 	@Override
 	protected RollingMachineRecipe fromJson(JsonObject jsonObject, RebornRecipeType<RollingMachineRecipe> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time) {
 		final JsonObject shapedRecipeJson = JsonHelper.getObject(jsonObject, "shaped");
@@ -30,6 +35,20 @@ public class RollingMachineRecipeSerde extends RebornRecipeSerde<RollingMachineR
 		jsonObject.add("shaped", Objects.requireNonNull(shapedRecipeJson));
 	}
 
+	@Override
+	protected RollingMachineRecipe fromPacket(PacketByteBuf buffer, RebornRecipeType<RollingMachineRecipe> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time) {
+		final JsonObject shapedRecipeJson = SerializationUtil.GSON_FLAT.fromJson(buffer.readString(MAX_SHAPED_JSON_LENGTH), JsonObject.class);
+		final ShapedRecipe shapedRecipe = RecipeSerializer.SHAPED.read(name, shapedRecipeJson);
+		return new RollingMachineRecipe(type, name, ingredients, outputs, power, time, shapedRecipe, shapedRecipeJson);
+	}
+
+	@Override
+	protected void collectPacketData(RollingMachineRecipe recipe, PacketByteBuf buffer) {
+		// The client keeps the shaped json around for toJson, so it is synced in its network form.
+		final JsonObject shapedRecipeJson = ShapedRecipeHelper.rewriteForNetworkSync(recipe.getShapedRecipeJson());
+		buffer.writeString(SerializationUtil.GSON_FLAT.toJson(shapedRecipeJson), MAX_SHAPED_JSON_LENGTH);
+	}
+
 	@Override
 	protected List<RebornIngredient> getIngredients(JsonObject jsonObject) {
 		// Inputs are handled by the shaped recipe.
@@ -49,4 +68,22 @@ public class RollingMachineRecipeSerde extends RebornRecipeSerde<RollingMachineR
 	@Override
 	protected void writeOutputs(RollingMachineRecipe recipe, JsonObject jsonObject) {
 	}
+
+	@Override
+	protected List<RebornIngredient> readIngredients(PacketByteBuf buffer) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	protected List<ItemStack> readOutputs(PacketByteBuf buffer) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	protected void writeIngredients(RollingMachineRecipe recipe, PacketByteBuf buffer) {
+	}
+
+	@Override
+	protected void writeOutputs(RollingMachineRecipe recipe, PacketByteBuf buffer) {
+	}
 }
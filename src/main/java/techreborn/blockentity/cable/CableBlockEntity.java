@@ -81,9 +81,17 @@ public class CableBlockEntity extends BlockEntity
 	};
 	private TRContent.Cables cableType = null;
 	private BlockState cover = null;
+	/**
+	 * Network this cable belongs to, null means that it has to join or build one on its next tick.
+	 */
+	@Nullable
+	CableNetwork network = null;
+	/**
+	 * Last tick of the network this cable left, carried over to its next network so it can't tick twice in one tick.
+	 */
 	long lastTick = 0;
 	// null means that it needs to be re-queried
-	List<CableTarget> targets = null;
+	List<OfferedEnergyStorage> targets = null;
 	/**
 	 * Adjacent caches, used to quickly query adjacent cable block entities.
 	 */
@@ -163,6 +171,9 @@ public class CableBlockEntity extends BlockEntity
 		return getAdjacentCache(direction).getBlockEntity();
 	}
 
+	/**
+	 * Append the targets of this cable to the network target list, re-querying them if necessary.
+	 */
 	void appendTargets(List<OfferedEnergyStorage> targetStorages) {
 		ServerWorld serverWorld = (ServerWorld) world;
 		if (serverWorld == null) {
@@ -186,7 +197,7 @@ public class CableBlockEntity extends BlockEntity
 					}
 				} else if (adjCache.find(direction.getOpposite()) != null) {
 					foundSomething = true;
-					targets.add(new CableTarget(direction, adjCache));
+					targets.add(new OfferedEnergyStorage(this, direction, adjCache));
 				}
 
 				newBlockState = newBlockState.with(CableBlock.PROPERTY_MAP.get(direction), foundSomething);
@@ -195,21 +206,7 @@ public class CableBlockEntity extends BlockEntity
 			serverWorld.setBlockState(getPos(), newBlockState);
 		}
 
-		// Fill the list.
-		for (CableTarget target : targets) {
-			EnergyStorage storage = target.find();
-
-			if (storage == null) {
-				// Schedule a rebuild next tick.
-				// This is just a reference change, the iterator remains valid.
-				targets = null;
-			} else {
-				targetStorages.add(new OfferedEnergyStorage(this, target.directionTo, storage));
-			}
-		}
-
-		// Reset blocked sides.
-		blockedSides = 0;
+		targetStorages.addAll(targets);
 	}
 
 	// BlockEntity
@@ -247,8 +244,20 @@ public class CableBlockEntity extends BlockEntity
 		}
 	}
 
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		// Also called when the chunk unloads.
+		if (network != null) {
+			network.remove(this);
+		}
+	}
+
 	public void neighborUpdate() {
 		targets = null;
+		if (network != null) {
+			network.invalidateTargets();
+		}
 	}
 
 	// BlockEntityTicker
@@ -293,12 +302,4 @@ public class CableBlockEntity extends BlockEntity
 	public ItemStack getToolDrop(PlayerEntity playerIn) {
 		return new ItemStack(getCableType().block);
 	}
-
-	private record CableTarget(Direction directionTo, BlockApiCache<EnergyStorage, Direction> cache) {
-
-		@Nullable
-		EnergyStorage find() {
-			return cache.find(directionTo.getOpposite());
-		}
-	}
 }
@@ -0,0 +1,315 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.blockentity.cable;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Direction;
+import org.jetbrains.annotations.Nullable;
+import techreborn.init.TRContent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A connected group of cables of the same type, kept between ticks.
+ * <p>
+ * Networks are built the first time one of their cables ticks, and grow when new cables are placed next to them.
+ * When one of their cables is removed or unloaded, only the area around it is searched to find the parts that got
+ * disconnected, see {@link #remove(CableBlockEntity)}. The rest of the network and its state are kept.
+ */
+class CableNetwork {
+	private static final Deque<CableBlockEntity> bfsQueue = new ArrayDeque<>();
+	private static final List<CableNetwork> adjacentNetworks = new ArrayList<>();
+
+	final TRContent.Cables cableType;
+	final List<CableBlockEntity> cables = new ArrayList<>();
+	long lastTick = 0;
+	// null means that it needs to be re-queried
+	@Nullable
+	private List<OfferedEnergyStorage> targets = null;
+
+	private CableNetwork(TRContent.Cables cableType) {
+		this.cableType = cableType;
+	}
+
+	/**
+	 * Return the network of a cable, building it or joining adjacent networks if the cable doesn't have one yet.
+	 */
+	static CableNetwork of(CableBlockEntity cable) {
+		if (cable.network != null) {
+			return cable.network;
+		}
+
+		CableNetwork network = new CableNetwork(cable.getCableType());
+		try {
+			gatherCables(cable, network);
+
+			// Merge with the networks we touched, always moving the cables of the smaller network.
+			for (CableNetwork other : adjacentNetworks) {
+				network = merge(network, other);
+			}
+			return network;
+		} finally {
+			bfsQueue.clear();
+			adjacentNetworks.clear();
+		}
+	}
+
+	private static boolean isLoaded(CableBlockEntity cable) {
+		return cable.getWorld() instanceof ServerWorld sw && sw.isChunkLoaded(cable.getPos());
+	}
+
+	/**
+	 * Perform a BFS to gather all connected cables that don't belong to a network yet,
+	 * and collect the networks found at the border.
+	 */
+	private static void gatherCables(CableBlockEntity start, CableNetwork network) {
+		network.add(start);
+		bfsQueue.add(start);
+
+		while (!bfsQueue.isEmpty()) {
+			CableBlockEntity current = bfsQueue.removeFirst();
+
+			for (Direction direction : Direction.values()) {
+				if (current.getAdjacentBlockEntity(direction) instanceof CableBlockEntity adjCable && network.cableType == adjCable.getCableType()) {
+					if (adjCable.isRemoved() || !isLoaded(adjCable)) continue;
+
+					if (adjCable.network == null) {
+						network.add(adjCable);
+						bfsQueue.add(adjCable);
+					} else if (adjCable.network != network && !adjacentNetworks.contains(adjCable.network)) {
+						adjacentNetworks.add(adjCable.network);
+					}
+				}
+			}
+		}
+	}
+
+	private static CableNetwork merge(CableNetwork a, CableNetwork b) {
+		CableNetwork into = a.cables.size() >= b.cables.size() ? a : b;
+		CableNetwork from = into == a ? b : a;
+
+		for (CableBlockEntity cable : from.cables) {
+			into.add(cable);
+		}
+		from.cables.clear();
+		// Don't tick the merged cables twice in the same tick.
+		into.lastTick = Math.max(into.lastTick, from.lastTick);
+		into.targets = null;
+		return into;
+	}
+
+	private void add(CableBlockEntity cable) {
+		cable.network = this;
+		cables.add(cable);
+		// Cables coming from a discarded network keep its tick.
+		lastTick = Math.max(lastTick, cable.lastTick);
+		targets = null;
+	}
+
+	/**
+	 * Remove a removed or unloaded cable from this network, splitting off the parts it disconnected.
+	 * <p>
+	 * A breadth first search runs from each neighbour of the cable in lockstep. Searches that meet are merged, and the
+	 * search stops as soon as at most one of them can still grow. Every other search has then found a closed part of
+	 * the network, which becomes a network of its own. The cost is proportional to the size of the parts that are split
+	 * off, times the number of neighbours, rather than to the size of the whole network.
+	 */
+	void remove(CableBlockEntity removed) {
+		if (removed.network != this) {
+			return;
+		}
+		removed.network = null;
+		removed.lastTick = lastTick;
+		cables.remove(removed);
+		targets = null;
+
+		List<CableBlockEntity> seeds = new ArrayList<>(6);
+		for (Direction direction : Direction.values()) {
+			if (removed.getAdjacentBlockEntity(direction) instanceof CableBlockEntity adjCable && isMember(adjCable) && !seeds.contains(adjCable)) {
+				seeds.add(adjCable);
+			}
+		}
+
+		// With a single neighbour the rest of the network is still connected through it.
+		if (seeds.size() >= 2) {
+			split(seeds);
+		}
+	}
+
+	private boolean isMember(CableBlockEntity cable) {
+		return cable.network == this && !cable.isRemoved() && isLoaded(cable);
+	}
+
+	private void split(List<CableBlockEntity> seeds) {
+		final int seedCount = seeds.size();
+		final Reference2IntMap<CableBlockEntity> owners = new Reference2IntOpenHashMap<>();
+		owners.defaultReturnValue(-1);
+		final List<Deque<CableBlockEntity>> frontiers = new ArrayList<>(seedCount);
+		final List<List<CableBlockEntity>> parts = new ArrayList<>(seedCount);
+		final int[] parents = new int[seedCount];
+
+		for (int i = 0; i < seedCount; i++) {
+			CableBlockEntity seed = seeds.get(i);
+			owners.put(seed, i);
+			frontiers.add(new ArrayDeque<>(List.of(seed)));
+			parts.add(new ArrayList<>(List.of(seed)));
+			parents[i] = i;
+		}
+
+		final boolean[] open = new boolean[seedCount];
+		int groups = seedCount;
+		int openGroups = seedCount;
+		while (groups > 1 && openGroups > 1) {
+			for (int i = 0; i < seedCount; i++) {
+				CableBlockEntity current = frontiers.get(i).pollFirst();
+				if (current == null) continue;
+
+				for (Direction direction : Direction.values()) {
+					if (!(current.getAdjacentBlockEntity(direction) instanceof CableBlockEntity adjCable) || !isMember(adjCable)) continue;
+
+					int owner = owners.getInt(adjCable);
+					if (owner == -1) {
+						owners.put(adjCable, i);
+						frontiers.get(i).addLast(adjCable);
+						parts.get(i).add(adjCable);
+					} else {
+						int root = find(parents, i);
+						int otherRoot = find(parents, owner);
+						if (root != otherRoot) {
+							parents[otherRoot] = root;
+							groups--;
+						}
+					}
+				}
+			}
+
+			openGroups = 0;
+			Arrays.fill(open, false);
+			for (int i = 0; i < seedCount; i++) {
+				int root = find(parents, i);
+				if (!frontiers.get(i).isEmpty() && !open[root]) {
+					open[root] = true;
+					openGroups++;
+				}
+			}
+		}
+
+		if (groups == 1) {
+			// Everything met up again, nothing to split.
+			return;
+		}
+
+		// The group that can still grow keeps this network, or the largest one if all of them are closed.
+		int[] sizes = new int[seedCount];
+		int keptRoot = -1;
+		for (int i = 0; i < seedCount; i++) {
+			int root = find(parents, i);
+			sizes[root] += parts.get(i).size();
+			if (!frontiers.get(i).isEmpty()) {
+				keptRoot = root;
+			}
+		}
+		if (keptRoot == -1) {
+			keptRoot = find(parents, 0);
+			for (int i = 0; i < seedCount; i++) {
+				if (sizes[i] > sizes[keptRoot]) {
+					keptRoot = i;
+				}
+			}
+		}
+
+		CableNetwork[] splitNetworks = new CableNetwork[seedCount];
+		for (int i = 0; i < seedCount; i++) {
+			int root = find(parents, i);
+			if (root == keptRoot) continue;
+
+			if (splitNetworks[root] == null) {
+				splitNetworks[root] = new CableNetwork(cableType);
+				// The split parts already ticked with this network.
+				splitNetworks[root].lastTick = lastTick;
+			}
+			for (CableBlockEntity cable : parts.get(i)) {
+				splitNetworks[root].add(cable);
+			}
+		}
+		cables.removeIf(cable -> cable.network != this);
+	}
+
+	private static int find(int[] parents, int i) {
+		while (parents[i] != i) {
+			parents[i] = parents[parents[i]];
+			i = parents[i];
+		}
+		return i;
+	}
+
+	/**
+	 * Discard this network, its cables will build new networks on their next tick.
+	 */
+	void invalidate() {
+		for (CableBlockEntity cable : cables) {
+			if (cable.network == this) {
+				cable.network = null;
+				cable.lastTick = lastTick;
+			}
+		}
+		cables.clear();
+		targets = null;
+	}
+
+	void invalidateTargets() {
+		targets = null;
+	}
+
+	/**
+	 * Append all targets that are still present to the list, re-querying the cable targets if necessary.
+	 */
+	void appendTargets(List<OfferedEnergyStorage> targetStorages) {
+		if (targets == null) {
+			targets = new ArrayList<>();
+			for (CableBlockEntity cable : cables) {
+				cable.appendTargets(targets);
+			}
+		}
+
+		List<OfferedEnergyStorage> currentTargets = targets;
+		for (OfferedEnergyStorage target : currentTargets) {
+			if (target.find()) {
+				targetStorages.add(target);
+			} else {
+				// Schedule a rebuild next tick.
+				// This is just a reference change, the iterator remains valid.
+				target.sourceCable.targets = null;
+				targets = null;
+			}
+		}
+	}
+}
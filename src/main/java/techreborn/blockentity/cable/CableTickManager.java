@@ -27,57 +27,72 @@ package techreborn.blockentity.cable;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Direction;
 import team.reborn.energy.api.EnergyStorage;
 import techreborn.init.TRContent;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.List;
 
 @SuppressWarnings("UnstableApiUsage")
 class CableTickManager {
 	private static long tickCounter = 0;
-	private static final List<CableBlockEntity> cableList = new ArrayList<>();
 	private static final List<OfferedEnergyStorage> targetStorages = new ArrayList<>();
-	private static final Deque<CableBlockEntity> bfsQueue = new ArrayDeque<>();
+	// Reused by dispatchTransfer, indexed like targetStorages.
+	private static long[] demands = new long[64];
+	private static long[] transferred = new long[64];
+	// Reused by computeLevel, holds the demands of the bucket containing the level.
+	private static long[] levelBucket = new long[64];
+	private static final int[] bucketCounts = new int[64];
+	private static final long[] bucketSums = new long[64];
 
 	static void handleCableTick(CableBlockEntity startingCable) {
 		if (!(startingCable.getWorld() instanceof ServerWorld)) throw new IllegalStateException();
 
-		try {
-			gatherCables(startingCable);
-			if (cableList.size() == 0) return;
+		CableNetwork network = CableNetwork.of(startingCable);
+		// Make sure we only tick each network once per tick.
+		if (network.lastTick == tickCounter) return;
+		network.lastTick = tickCounter;
+
+		List<CableBlockEntity> cableList = network.cables;
 
+		try {
 			// Group all energy into the network.
 			long networkCapacity = 0;
 			long networkAmount = 0;
 
+			for (CableBlockEntity cable : cableList) {
+				if (cable.isRemoved()) {
+					// Should have been handled by markRemoved, regroup on the next tick just in case.
+					network.invalidate();
+					return;
+				}
+			}
+
 			for (CableBlockEntity cable : cableList) {
 				networkAmount += cable.energyContainer.amount;
 				networkCapacity += cable.energyContainer.getCapacity();
 
-				// Update cable connections.
-				cable.appendTargets(targetStorages);
+				// Reset blocked sides.
+				cable.blockedSides = 0;
 				// Block any cable I/O while we access the network amount directly.
 				// Some things might try to access cables, for example a p2p tunnel pointing back at a cable.
 				// If the cables and the network go out of sync, we risk duping or voiding energy.
 				cable.ioBlocked = true;
 			}
 
+			// Update cable connections.
+			network.appendTargets(targetStorages);
+
 			// Just in case.
 			if (networkAmount > networkCapacity) {
 				networkAmount = networkCapacity;
 			}
 
 			// Pull energy from storages.
-			networkAmount += dispatchTransfer(startingCable.getCableType(), EnergyStorage::extract, networkCapacity - networkAmount);
+			networkAmount += dispatchTransfer(network.cableType, TransferOperation.EXTRACT, networkCapacity - networkAmount);
 			// Push energy into storages.
-			networkAmount -= dispatchTransfer(startingCable.getCableType(), EnergyStorage::insert, networkAmount);
+			networkAmount -= dispatchTransfer(network.cableType, TransferOperation.INSERT, networkAmount);
 
 			// Split energy evenly across cables.
 			int cableCount = cableList.size();
@@ -89,95 +104,172 @@ class CableTickManager {
 				cable.ioBlocked = false;
 			}
 		} finally {
-			cableList.clear();
 			targetStorages.clear();
-			bfsQueue.clear();
 		}
 	}
 
-	private static boolean shouldTickCable(CableBlockEntity current) {
-		// Make sure we only gather and tick each cable once per tick.
-		if (current.lastTick == tickCounter) return false;
-		// Make sure we ignore cables in non-ticking chunks.
-		if (!(current.getWorld() instanceof ServerWorld sw) || !sw.isChunkLoaded(current.getPos())) return false;
-
-		return true;
-	}
-
 	/**
-	 * Perform a BFS to gather all connected ticking cables.
+	 * Perform a transfer operation across a list of targets.
+	 * <p>
+	 * Every target is offered {@code min(demand, level)}, where the level is the highest value that doesn't exceed
+	 * {@code maxAmount} in total, so that small demands are fully satisfied and the rest is split evenly.
+	 * Targets that moved energy during the previous tick reuse that result as their demand, the other ones are simulated.
 	 */
-	private static void gatherCables(CableBlockEntity start) {
-		if (!shouldTickCable(start)) return;
-
-		bfsQueue.add(start);
-		start.lastTick = tickCounter;
-		cableList.add(start);
-
-		while (!bfsQueue.isEmpty()) {
-			CableBlockEntity current = bfsQueue.removeFirst();
-
-			for (Direction direction : Direction.values()) {
-				if (current.getAdjacentBlockEntity(direction) instanceof CableBlockEntity adjCable && current.getCableType() == adjCable.getCableType()) {
-					if (shouldTickCable(adjCable)) {
-						bfsQueue.add(adjCable);
-						adjCable.lastTick = tickCounter;
-						cableList.add(adjCable);
-					}
+	private static long dispatchTransfer(TRContent.Cables cableType, TransferOperation operation, long maxAmount) {
+		int targetCount = targetStorages.size();
+		if (targetCount == 0 || maxAmount <= 0) return 0;
+
+		if (demands.length < targetCount) {
+			demands = new long[Math.max(targetCount, demands.length * 2)];
+			transferred = new long[demands.length];
+		}
+
+		// Gather target demands.
+		long totalDemand = 0;
+		for (int i = 0; i < targetCount; ++i) {
+			OfferedEnergyStorage target = targetStorages.get(i);
+			long demand = operation.getDemand(target);
+			if (demand < 0) {
+				try (Transaction tx = Transaction.openOuter()) {
+					demand = operation.transfer(target.storage, cableType.transferRate, tx);
 				}
 			}
+			demands[i] = Math.min(demand, cableType.transferRate);
+			totalDemand += demands[i];
 		}
-	}
 
-	/**
-	 * Perform a transfer operation across a list of targets.
-	 */
-	private static long dispatchTransfer(TRContent.Cables cableType, TransferOperation operation, long maxAmount) {
-		// Build target list.
-		List<SortableStorage> sortedTargets = new ArrayList<>();
-		for (var storage : targetStorages) {
-			sortedTargets.add(new SortableStorage(operation, storage));
-		}
-		// Shuffle for better average transfer.
-		Collections.shuffle(sortedTargets);
-		// Sort by lowest simulation target.
-		sortedTargets.sort(Comparator.comparingLong(sortableStorage -> sortableStorage.simulationResult));
-		// Actually perform the transfer.
+		long level = totalDemand <= maxAmount ? cableType.transferRate : computeLevel(targetCount, maxAmount);
+
+		// Actually perform the transfer, from now on demands holds the amount offered to each target.
 		try (Transaction transaction = Transaction.openOuter()) {
 			long transferredAmount = 0;
-			for (int i = 0; i < sortedTargets.size(); ++i) {
-				SortableStorage target = sortedTargets.get(i);
-				int remainingTargets = sortedTargets.size() - i;
-				long remainingAmount = maxAmount - transferredAmount;
-				// Limit max amount to the cable transfer rate.
-				long targetMaxAmount = Math.min(remainingAmount / remainingTargets, cableType.transferRate);
-
-				long localTransferred = operation.transfer(target.storage.storage, targetMaxAmount, transaction);
-				if (localTransferred > 0) {
-					transferredAmount += localTransferred;
+			for (int i = 0; i < targetCount; ++i) {
+				demands[i] = Math.min(demands[i], level);
+				transferred[i] = demands[i] > 0 ? operation.transfer(targetStorages.get(i).storage, demands[i], transaction) : 0;
+				transferredAmount += transferred[i];
+			}
+
+			// Offer what is left, for example because a demand changed since the previous tick, to targets that took all they were offered.
+			for (int i = 0; i < targetCount && transferredAmount < maxAmount; ++i) {
+				if (transferred[i] < demands[i] || demands[i] >= cableType.transferRate) continue;
+
+				long extraAmount = Math.min(maxAmount - transferredAmount, cableType.transferRate - demands[i]);
+				long localTransferred = operation.transfer(targetStorages.get(i).storage, extraAmount, transaction);
+				demands[i] += extraAmount;
+				transferred[i] += localTransferred;
+				transferredAmount += localTransferred;
+			}
+
+			for (int i = 0; i < targetCount; ++i) {
+				OfferedEnergyStorage target = targetStorages.get(i);
+
+				if (transferred[i] > 0) {
 					// Block duplicate operations.
-					target.storage.afterTransfer();
+					target.afterTransfer();
+					// A target that took less than it was offered is full, otherwise it might take up to the transfer rate.
+					operation.setDemand(target, transferred[i] < demands[i] ? transferred[i] : cableType.transferRate);
+				} else {
+					operation.setDemand(target, -1);
 				}
 			}
+
 			transaction.commit();
 			return transferredAmount;
 		}
 	}
 
-	private interface TransferOperation {
-		long transfer(EnergyStorage storage, long maxAmount, Transaction transaction);
-	}
+	/**
+	 * Find the highest level such that offering {@code min(demand, level)} to every target doesn't exceed {@code maxAmount}.
+	 * Demands are grouped into power of two buckets, so that only the targets of the bucket containing the level are refined.
+	 * The refinement sorts the demands of that bucket, so it costs {@code O(n + k log k)} for {@code k} targets in the bucket.
+	 */
+	private static long computeLevel(int targetCount, long maxAmount) {
+		Arrays.fill(bucketCounts, 0);
+		Arrays.fill(bucketSums, 0);
+		for (int i = 0; i < targetCount; ++i) {
+			int bucket = bucketOf(demands[i]);
+			bucketCounts[bucket]++;
+			bucketSums[bucket] += demands[i];
+		}
+
+		// Fully satisfy buckets as long as their largest possible demand can be offered to every remaining target.
+		long satisfiedAmount = 0;
+		int remainingTargets = targetCount;
+		int bucket = 0;
+		for (; bucket < 63; ++bucket) {
+			long bucketMax = (1L << bucket) - 1;
+			int targetsAbove = remainingTargets - bucketCounts[bucket];
+			if (satisfiedAmount + bucketSums[bucket] + targetsAbove * bucketMax > maxAmount) break;
 
-	private static class SortableStorage {
-		private final OfferedEnergyStorage storage;
-		private final long simulationResult;
+			satisfiedAmount += bucketSums[bucket];
+			remainingTargets = targetsAbove;
+		}
 
-		SortableStorage(TransferOperation operation, OfferedEnergyStorage storage) {
-			this.storage = storage;
-			try (Transaction tx = Transaction.openOuter()) {
-				this.simulationResult = operation.transfer(storage.storage, Long.MAX_VALUE, tx);
+		// The level is in this bucket, collect its demands once.
+		int bucketSize = 0;
+		if (levelBucket.length < bucketCounts[bucket]) {
+			levelBucket = new long[Math.max(bucketCounts[bucket], levelBucket.length * 2)];
+		}
+		for (int i = 0; i < targetCount; ++i) {
+			if (bucketOf(demands[i]) == bucket) {
+				levelBucket[bucketSize++] = demands[i];
 			}
 		}
+		Arrays.sort(levelBucket, 0, bucketSize);
+
+		// Raise the level while the smallest remaining demand of the bucket can be satisfied.
+		long level = (maxAmount - satisfiedAmount) / remainingTargets;
+		for (int i = 0; i < bucketSize && levelBucket[i] <= level; ++i) {
+			satisfiedAmount += levelBucket[i];
+			remainingTargets--;
+			level = (maxAmount - satisfiedAmount) / remainingTargets;
+		}
+		return level;
+	}
+
+	private static int bucketOf(long demand) {
+		return 64 - Long.numberOfLeadingZeros(demand);
+	}
+
+	private enum TransferOperation {
+		EXTRACT {
+			@Override
+			long transfer(EnergyStorage storage, long maxAmount, Transaction transaction) {
+				return storage.extract(maxAmount, transaction);
+			}
+
+			@Override
+			long getDemand(OfferedEnergyStorage storage) {
+				return storage.extractDemand;
+			}
+
+			@Override
+			void setDemand(OfferedEnergyStorage storage, long demand) {
+				storage.extractDemand = demand;
+			}
+		},
+		INSERT {
+			@Override
+			long transfer(EnergyStorage storage, long maxAmount, Transaction transaction) {
+				return storage.insert(maxAmount, transaction);
+			}
+
+			@Override
+			long getDemand(OfferedEnergyStorage storage) {
+				return storage.insertDemand;
+			}
+
+			@Override
+			void setDemand(OfferedEnergyStorage storage, long demand) {
+				storage.insertDemand = demand;
+			}
+		};
+
+		abstract long transfer(EnergyStorage storage, long maxAmount, Transaction transaction);
+
+		abstract long getDemand(OfferedEnergyStorage storage);
+
+		abstract void setDemand(OfferedEnergyStorage storage, long demand);
 	}
 
 	static {
@@ -24,21 +24,48 @@
 
 package techreborn.blockentity.cable;
 
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
 import net.minecraft.util.math.Direction;
+import org.jetbrains.annotations.Nullable;
 import team.reborn.energy.api.EnergyStorage;
 
 /**
  * {@link EnergyStorage} adjacent to an energy cable, with some additional info.
+ * Instances are kept by the cable network between ticks, the storage itself is re-queried every tick.
  */
+@SuppressWarnings("UnstableApiUsage")
 class OfferedEnergyStorage {
 	final CableBlockEntity sourceCable;
 	final Direction direction;
-	final EnergyStorage storage;
+	private final BlockApiCache<EnergyStorage, Direction> cache;
+	/**
+	 * Storage found by the last call to {@link #find()}.
+	 */
+	@Nullable
+	EnergyStorage storage = null;
+	/**
+	 * Demand observed during the previous extraction, {@code -1} if it has to be simulated.
+	 */
+	long extractDemand = -1;
+	/**
+	 * Demand observed during the previous insertion, {@code -1} if it has to be simulated.
+	 */
+	long insertDemand = -1;
 
-	OfferedEnergyStorage(CableBlockEntity sourceCable, Direction direction, EnergyStorage storage) {
+	OfferedEnergyStorage(CableBlockEntity sourceCable, Direction direction, BlockApiCache<EnergyStorage, Direction> cache) {
 		this.sourceCable = sourceCable;
 		this.direction = direction;
-		this.storage = storage;
+		this.cache = cache;
+	}
+
+	/**
+	 * Query the adjacent storage for this tick.
+	 *
+	 * @return {@code true} if the storage is still present
+	 */
+	boolean find() {
+		storage = cache.find(direction.getOpposite());
+		return storage != null;
 	}
 
 	void afterTransfer() {
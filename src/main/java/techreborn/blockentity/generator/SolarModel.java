@@ -0,0 +1,137 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package techreborn.blockentity.generator;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import reborncore.api.events.BlockChangeCallback;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Solar conditions of a world, computed at most once per tick and shared by all {@link SolarPanelBlockEntity}s
+ * in it. Also tracks the panels per column so that they only re-check sky visibility when a block above them changes.
+ */
+public final class SolarModel {
+	private static final Map<World, SolarModel> MODELS = new WeakHashMap<>();
+
+	private final Long2ObjectMap<List<SolarPanelBlockEntity>> columns = new Long2ObjectOpenHashMap<>();
+	private long time = Long.MIN_VALUE;
+	private boolean daylight;
+	private float multiplier;
+
+	static SolarModel get(World world) {
+		return MODELS.computeIfAbsent(world, w -> new SolarModel());
+	}
+
+	/**
+	 * Recomputes the solar conditions if the world time has changed since the last call.
+	 *
+	 * @param world {@link World} The world this model belongs to
+	 */
+	void update(World world) {
+		if (time == world.getTime()) {
+			return;
+		}
+		time = world.getTime();
+
+		float skyAngle = world.getSkyAngle(0);
+
+		// Check for a few conditions that would restrict the generation to minimal production...
+		daylight = world.getDimension().hasSkyLight() && // No light source in dimension (e.g. nether or end)
+			!(skyAngle > 0.25 && skyAngle < 0.75) && // Light source is below horizon
+			!(world.isRaining() || world.isThundering()); // Weather is present
+		if (!daylight) {
+			multiplier = 0;
+			return;
+		}
+
+		// At this point, we know a light source is present, and it's clear weather. We need to determine
+		// the level of generation based on % of time through the day, with peak production at noon and
+		// a smooth transition to night production as sun rises/sets
+		if (skyAngle > 0.75) {
+			// Morning to noon
+			multiplier = (0.25f - (1 - skyAngle)) / 0.25f;
+		} else {
+			// Noon to sunset
+			multiplier = (0.25f - skyAngle) / 0.25f;
+		}
+	}
+
+	/**
+	 * @return {@code boolean} If panels in this world produce more than their night rate
+	 */
+	boolean isDaylight() {
+		return daylight;
+	}
+
+	/**
+	 * @return {@code float} Fraction of the day/night range produced on top of the night rate
+	 */
+	float getMultiplier() {
+		return multiplier;
+	}
+
+	void track(SolarPanelBlockEntity panel) {
+		columns.computeIfAbsent(ChunkPos.toLong(panel.getPos().getX(), panel.getPos().getZ()), column -> new ArrayList<>(1)).add(panel);
+	}
+
+	void untrack(SolarPanelBlockEntity panel) {
+		long column = ChunkPos.toLong(panel.getPos().getX(), panel.getPos().getZ());
+		List<SolarPanelBlockEntity> panels = columns.get(column);
+		if (panels != null) {
+			panels.remove(panel);
+			if (panels.isEmpty()) {
+				columns.remove(column);
+			}
+		}
+	}
+
+	private void onBlockChanged(BlockPos pos) {
+		List<SolarPanelBlockEntity> panels = columns.get(ChunkPos.toLong(pos.getX(), pos.getZ()));
+		if (panels == null) {
+			return;
+		}
+		for (SolarPanelBlockEntity panel : panels) {
+			if (pos.getY() > panel.getPos().getY()) {
+				panel.onSkyChanged();
+			}
+		}
+	}
+
+	public static void init() {
+		BlockChangeCallback.EVENT.register((world, pos, oldState, newState) -> {
+			SolarModel model = MODELS.get(world);
+			if (model != null) {
+				model.onBlockChanged(pos);
+			}
+		});
+	}
+}
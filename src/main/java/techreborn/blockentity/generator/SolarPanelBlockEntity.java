@@ -62,6 +62,13 @@ public class SolarPanelBlockEntity extends PowerAcceptorBlockEntity implements I
 
 	private SolarPanels panel;
 
+	// Ticks to wait after a block above the panel changed, so that the sky light is updated before checking it
+	private static final int SKY_CHECK_DELAY = 20;
+
+	private SolarModel solarModel;
+	private boolean tracked = false;
+	private long skyCheckTime = -1;
+
 	public SolarPanelBlockEntity(BlockPos pos, BlockState state) {
 		super(TRBlockEntities.SOLAR_PANEL, pos, state);
 	}
@@ -112,34 +119,33 @@ public class SolarPanelBlockEntity extends PowerAcceptorBlockEntity implements I
 		setIsGenerating(world.isSkyVisible(pos.up()));
 	}
 
+	/**
+	 * Called by the {@link SolarModel} when a block above this panel has changed.
+	 */
+	void onSkyChanged() {
+		skyCheckTime = world.getTime() + SKY_CHECK_DELAY;
+	}
+
+	private SolarModel getSolarModel() {
+		if (solarModel == null) {
+			// Client side panels only need the solar conditions for the screen
+			solarModel = world.isClient ? new SolarModel() : SolarModel.get(world);
+		}
+		return solarModel;
+	}
+
 	public int getGenerationRate() {
 		if (!isGenerating()) {
 			return 0;
 		}
 
-		float skyAngle = world.getSkyAngle(0);
-
-		// Ok, we are actively generating power, but check for a few conditions that would restrict
-		// the generation to minimal production...
-		if (!world.getDimension().hasSkyLight() || // No light source in dimension (e.g. nether or end)
-			  (skyAngle > 0.25 && skyAngle < 0.75) || // Light source is below horizon
-			  (world.isRaining() || world.isThundering())) { // Weather is present
+		SolarModel model = getSolarModel();
+		model.update(world);
+		if (!model.isDaylight()) {
 			return getPanel().generationRateN;
 		}
 
-		// At this point, we know a light source is present, and it's clear weather. We need to determine
-		// the level of generation based on % of time through the day, with peak production at noon and
-		// a smooth transition to night production as sun rises/sets
-		float multiplier;
-		if (skyAngle > 0.75) {
-			// Morning to noon
-			multiplier = (0.25f - (1 - skyAngle)) / 0.25f;
-		} else {
-			// Noon to sunset
-			multiplier = (0.25f - skyAngle) / 0.25f;
-		}
-
-		return (int)Math.ceil(getPanel().generationRateN + (dayNightRange * multiplier));
+		return (int)Math.ceil(getPanel().generationRateN + (dayNightRange * model.getMultiplier()));
 	}
 
 
@@ -159,9 +165,18 @@ public class SolarPanelBlockEntity extends PowerAcceptorBlockEntity implements I
 		}
 
 		// State checking and updating
+		if (!tracked) {
+			tracked = true;
+			getSolarModel().track(this);
+			updateState();
+			// The sky light might not be calculated yet after loading
+			onSkyChanged();
+		} else if (skyCheckTime >= 0 && world.getTime() >= skyCheckTime) {
+			skyCheckTime = -1;
+			updateState();
+		}
 		if (world.getTime() % 20 == 0) {
 			checkOverfill = true;
-			updateState();
 		}
 
 		// Power generation calculations
@@ -267,6 +282,15 @@ public class SolarPanelBlockEntity extends PowerAcceptorBlockEntity implements I
 		super.readNbt(tag);
 	}
 
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		if (tracked) {
+			tracked = false;
+			solarModel.untrack(this);
+		}
+	}
+
 	// MachineBaseBlockEntity
 	@Override
 	public void onLoad() {
@@ -284,7 +308,7 @@ public class SolarPanelBlockEntity extends PowerAcceptorBlockEntity implements I
 	public BuiltScreenHandler createScreenHandler(int syncID, final PlayerEntity player) {
 		return new ScreenHandlerBuilder("solar_panel").player(player.getInventory()).inventory().hotbar().addInventory()
 				.blockEntity(this).syncEnergyValue()
-				.sync(this::isGenerating, this::setIsGenerating)
+				.syncBoolean(this::isGenerating, this::setIsGenerating)
 				.addInventory().create(this, syncID);
 	}
 }
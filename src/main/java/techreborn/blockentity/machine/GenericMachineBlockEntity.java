@@ -99,6 +99,17 @@ public abstract class GenericMachineBlockEntity extends PowerAcceptorBlockEntity
 		}
 	}
 
+	@Override
+	protected boolean canSleep() {
+		if (crafter == null || crafter.currentRecipe != null || crafter.isInvDirty()) {
+			return false;
+		}
+		if (energySlot != -1 && !inventory.getStack(energySlot).isEmpty() && getFreeSpace() > 0) {
+			return false;
+		}
+		return !hasPendingIO();
+	}
+
 	@Override
 	public long getBaseMaxPower() {
 		return maxEnergy;
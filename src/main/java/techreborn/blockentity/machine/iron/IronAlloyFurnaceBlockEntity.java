@@ -161,9 +161,9 @@ public class IronAlloyFurnaceBlockEntity extends AbstractIronMachineBlockEntity
 				.slot(0, 47, 17)
 				.slot(1, 65, 17)
 				.outputSlot(2, 116, 35).fuelSlot(3, 56, 53)
-				.sync(this::getBurnTime, this::setBurnTime)
-				.sync(this::getProgress, this::setProgress)
-				.sync(this::getTotalBurnTime, this::setTotalBurnTime)
+				.syncInt(this::getBurnTime, this::setBurnTime)
+				.syncInt(this::getProgress, this::setProgress)
+				.syncInt(this::getTotalBurnTime, this::setTotalBurnTime)
 				.addInventory().create(this, syncID);
 	}
 
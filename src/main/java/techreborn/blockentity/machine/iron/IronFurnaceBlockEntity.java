@@ -31,7 +31,6 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.recipe.AbstractCookingRecipe;
 import net.minecraft.recipe.Recipe;
-import net.minecraft.recipe.RecipeType;
 import net.minecraft.recipe.SmeltingRecipe;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.math.BlockPos;
@@ -43,6 +42,7 @@ import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
 import techreborn.utils.RecipeUtils;
+import techreborn.utils.SmeltingRecipeCache;
 
 import javax.annotation.Nullable;
 import java.util.Optional;
@@ -83,7 +83,7 @@ public class IronFurnaceBlockEntity extends AbstractIronMachineBlockEntity imple
 		} else {
 			// If the previous recipe does not apply anymore, reset the progress
 			progress = 0;
-			Recipe<?> matchingRecipe = RecipeUtils.getMatchingRecipe(world, RecipeType.SMELTING, stack).orElse(null);
+			Recipe<?> matchingRecipe = SmeltingRecipeCache.getRecipe(world.getRecipeManager(), stack).orElse(null);
 			if (matchingRecipe != null) {
 				lastRecipe = matchingRecipe;
 			}
@@ -112,7 +112,7 @@ public class IronFurnaceBlockEntity extends AbstractIronMachineBlockEntity imple
 	}
 
 	private float getExperienceFor() {
-		Optional<SmeltingRecipe> recipe = world.getRecipeManager().getFirstMatch(RecipeType.SMELTING, this, world);
+		Optional<SmeltingRecipe> recipe = SmeltingRecipeCache.getRecipe(world.getRecipeManager(), inventory.getStack(INPUT_SLOT));
 		return recipe.map(AbstractCookingRecipe::getExperience).orElse(0F);
 	}
 
@@ -219,9 +219,9 @@ public class IronFurnaceBlockEntity extends AbstractIronMachineBlockEntity imple
 		return new ScreenHandlerBuilder("ironfurnace").player(player.getInventory()).inventory().hotbar()
 				.addInventory().blockEntity(this)
 				.fuelSlot(2, 56, 53).slot(0, 56, 17).outputSlot(1, 116, 35)
-				.sync(this::getBurnTime, this::setBurnTime)
-				.sync(this::getProgress, this::setProgress)
-				.sync(this::getTotalBurnTime, this::setTotalBurnTime)
+				.syncInt(this::getBurnTime, this::setBurnTime)
+				.syncInt(this::getProgress, this::setProgress)
+				.syncInt(this::getTotalBurnTime, this::setTotalBurnTime)
 				.sync(this::getExperience, this::setExperience)
 				.addInventory().create(this, syncID);
 	}
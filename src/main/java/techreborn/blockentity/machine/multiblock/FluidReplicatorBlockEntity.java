@@ -94,6 +94,12 @@ public class FluidReplicatorBlockEntity extends GenericMachineBlockEntity implem
 		}
 	}
 
+	@Override
+	protected boolean canSleep() {
+		// Cells are handled by the tick
+		return super.canSleep() && inventory.getStack(1).isEmpty();
+	}
+
 	@Override
 	public RecipeCrafter getRecipeCrafter() {
 		return crafter;
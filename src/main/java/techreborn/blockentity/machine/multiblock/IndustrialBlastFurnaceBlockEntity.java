@@ -137,7 +137,7 @@ public class IndustrialBlastFurnaceBlockEntity extends GenericMachineBlockEntity
 		return new ScreenHandlerBuilder("blastfurnace").player(player.getInventory()).inventory().hotbar().addInventory()
 				.blockEntity(this).slot(0, 50, 27).slot(1, 50, 47).outputSlot(2, 93, 37).outputSlot(3, 113, 37)
 				.energySlot(4, 8, 72).syncEnergyValue().syncCrafterValue()
-				.sync(this::getHeat, this::setHeat).addInventory().create(this, syncID);
+				.syncInt(this::getHeat, this::setHeat).addInventory().create(this, syncID);
 	}
 
 }
@@ -94,6 +94,12 @@ public class IndustrialGrinderBlockEntity extends GenericMachineBlockEntity impl
 		}
 	}
 
+	@Override
+	protected boolean canSleep() {
+		// Cells are handled by the tick
+		return super.canSleep() && inventory.getStack(1).isEmpty();
+	}
+
 	@Override
 	public void readNbt(final NbtCompound tagCompound) {
 		super.readNbt(tagCompound);
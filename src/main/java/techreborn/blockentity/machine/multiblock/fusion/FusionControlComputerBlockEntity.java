@@ -140,6 +140,7 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 	public void changeSize(int sizeDelta) {
 		int newSize = size + sizeDelta;
 		this.size = Math.max(6, Math.min(TechRebornConfig.fusionControlComputerMaxCoilSize, newSize));
+		invalidateMultiblock();
 	}
 
 	/**
@@ -396,6 +397,7 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 		}
 		//Done here to force the smaller size, will be useful if people lag out on a large one.
 		this.size = Math.min(size, TechRebornConfig.fusionControlComputerMaxCoilSize);
+		invalidateMultiblock();
 	}
 
 	@Override
@@ -418,7 +420,9 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 	@Override
 	public void writeMultiblock(MultiblockWriter writer) {
 		BlockState coil = TRContent.Machine.FUSION_COIL.block.getDefaultState();
-		Torus.getOriginPositions(size).forEach(pos -> writer.add(pos.getX(), pos.getY(), pos.getZ(), coil));
+		for (long offset : Torus.getOffsets(size)) {
+			writer.add(Torus.getX(offset), Torus.getY(offset), Torus.getZ(offset), coil);
+		}
 	}
 
 	@Override
@@ -431,10 +435,10 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 	public BuiltScreenHandler createScreenHandler(int syncID, final PlayerEntity player) {
 		return new ScreenHandlerBuilder("fusionreactor").player(player.getInventory()).inventory().hotbar()
 				.addInventory().blockEntity(this).slot(0, 34, 47).slot(1, 126, 47).outputSlot(2, 80, 47).syncEnergyValue()
-				.sync(this::getCraftingTickTime, this::setCraftingTickTime)
-				.sync(this::getSize, this::setSize)
-				.sync(this::getState, this::setState)
-				.sync(this::getNeededPower, this::setNeededPower)
+				.syncInt(this::getCraftingTickTime, this::setCraftingTickTime)
+				.syncInt(this::getSize, this::setSize)
+				.syncInt(this::getState, this::setState)
+				.syncInt(this::getNeededPower, this::setNeededPower)
 				.sync(this::getCurrentRecipeID, this::setCurrentRecipeID)
 				.addInventory()
 				.create(this, syncID);
@@ -454,6 +458,7 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 
 	public void setSize(int size) {
 		this.size = size;
+		invalidateMultiblock();
 	}
 
 	public int getState() {
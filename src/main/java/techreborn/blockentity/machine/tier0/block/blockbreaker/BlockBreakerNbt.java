@@ -30,9 +30,9 @@ class BlockBreakerNbt {
 	}
 
 	public BlockEntityScreenHandlerBuilder syncNbt(BlockEntityScreenHandlerBuilder builder) {
-		return builder.sync(this::getBreakTime, this::setBreakTime)
-			.sync(this::getCurrentBreakTime, this::setCurrentBreakTime)
-			.sync(this::getStatus, this::setStatus);
+		return builder.syncInt(this::getBreakTime, this::setBreakTime)
+			.syncInt(this::getCurrentBreakTime, this::setCurrentBreakTime)
+			.syncInt(this::getStatus, this::setStatus);
 	}
 
 	protected int getBreakTime() {
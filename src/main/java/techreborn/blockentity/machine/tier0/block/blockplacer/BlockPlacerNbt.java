@@ -30,9 +30,9 @@ class BlockPlacerNbt {
 	}
 
 	public BlockEntityScreenHandlerBuilder syncNbt(BlockEntityScreenHandlerBuilder builder) {
-		return builder.sync(this::getPlaceTime, this::setPlaceTime)
-			.sync(this::getCurrentPlaceTime, this::setCurrentPlaceTime)
-			.sync(this::getStatus, this::setStatus);
+		return builder.syncInt(this::getPlaceTime, this::setPlaceTime)
+			.syncInt(this::getCurrentPlaceTime, this::setCurrentPlaceTime)
+			.syncInt(this::getStatus, this::setStatus);
 	}
 
 	protected int getPlaceTime() {
@@ -449,9 +449,9 @@ public class AutoCraftingTableBlockEntity extends PowerAcceptorBlockEntity
 				.slot(6, 28, 61).slot(7, 46, 61).slot(8, 64, 61)
 				.outputSlot(OUTPUT_SLOT, 145, 42)
 				.outputSlot(EXTRA_OUTPUT_SLOT, 145, 70)
-				.syncEnergyValue().sync(this::getProgress, this::setProgress)
-				.sync(this::getMaxProgress, this::setMaxProgress)
-				.sync(this::getLockedInt, this::setLockedInt).addInventory().create(this, syncID);
+				.syncEnergyValue().syncInt(this::getProgress, this::setProgress)
+				.syncInt(this::getMaxProgress, this::setMaxProgress)
+				.syncInt(this::getLockedInt, this::setLockedInt).addInventory().create(this, syncID);
 	}
 
 	public int getProgress() {
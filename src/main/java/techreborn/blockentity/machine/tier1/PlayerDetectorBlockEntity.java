@@ -172,7 +172,7 @@ public class PlayerDetectorBlockEntity extends PowerAcceptorBlockEntity implemen
 				.inventory().hotbar().addInventory()
 				.blockEntity(this)
 				.syncEnergyValue()
-				.sync(this::getCurrentRadius, this::setCurrentRadius)
+				.syncInt(this::getCurrentRadius, this::setCurrentRadius)
 				.addInventory().create(this, syncID);
 	}
 
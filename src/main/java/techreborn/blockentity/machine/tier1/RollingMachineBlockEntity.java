@@ -44,6 +44,7 @@ import reborncore.common.screen.BuiltScreenHandler;
 import reborncore.client.screen.builder.ScreenHandlerBuilder;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.blocks.BlockMachineBase;
+import reborncore.common.crafting.RecipeIndex;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.util.ItemUtils;
 import reborncore.common.util.RebornInventory;
@@ -78,6 +79,12 @@ public class RollingMachineBlockEntity extends PowerAcceptorBlockEntity
 	private final int outputSlot;
 	public boolean locked = false;
 	public int balanceSlot = 0;
+	// The recipe found for the last matrix layout, looked up again when the layout or the recipes change
+	private final ItemStack[] recipeLayout = new ItemStack[9];
+	@Nullable
+	private RecipeIndex<RollingMachineRecipe> recipeLayoutIndex;
+	@Nullable
+	private RollingMachineRecipe recipeLayoutMatch;
 
 	public RollingMachineBlockEntity(BlockPos pos, BlockState state) {
 		super(TRBlockEntities.ROLLING_MACHINE, pos, state);
@@ -334,12 +341,33 @@ public class RollingMachineBlockEntity extends PowerAcceptorBlockEntity
 	}
 
 	public RollingMachineRecipe findMatchingRecipe(CraftingInventory inv, World world) {
-		for (RollingMachineRecipe recipe : getAllRecipe(world)) {
+		RecipeIndex<RollingMachineRecipe> recipeIndex = ModRecipes.ROLLING_MACHINE.getRecipeIndex(world);
+		if (recipeIndex == recipeLayoutIndex && isRecipeLayout(inv)) {
+			return recipeLayoutMatch;
+		}
+
+		recipeLayoutIndex = recipeIndex;
+		recipeLayoutMatch = null;
+		for (int i = 0; i < recipeLayout.length; i++) {
+			recipeLayout[i] = inv.getStack(i).copy();
+		}
+		for (RollingMachineRecipe recipe : recipeIndex.getRecipes()) {
 			if (recipe.matches(inv, world)) {
-				return recipe;
+				recipeLayoutMatch = recipe;
+				break;
+			}
+		}
+		return recipeLayoutMatch;
+	}
+
+	private boolean isRecipeLayout(CraftingInventory inv) {
+		for (int i = 0; i < recipeLayout.length; i++) {
+			// Counts don't matter to the recipes, only the items and their nbt
+			if (!ItemUtils.isItemEqual(recipeLayout[i], inv.getStack(i), true, false)) {
+				return false;
 			}
 		}
-		return null;
+		return true;
 	}
 
 	@Override
@@ -394,8 +422,8 @@ public class RollingMachineBlockEntity extends PowerAcceptorBlockEntity
 				.onCraft(inv -> this.inventory.setStack(1, findMatchingRecipeOutput(getCraftingMatrix(), this.world)))
 				.outputSlot(9, 124, 40)
 				.energySlot(10, 8, 70)
-				.syncEnergyValue().sync(this::getBurnTime, this::setBurnTime).sync(this::getLockedInt, this::setLockedInt)
-				.sync(this::getCurrentRecipeTime, this::setCurrentRecipeTime).addInventory().create(this, syncID);
+				.syncEnergyValue().syncInt(this::getBurnTime, this::setBurnTime).syncInt(this::getLockedInt, this::setLockedInt)
+				.syncInt(this::getCurrentRecipeTime, this::setCurrentRecipeTime).addInventory().create(this, syncID);
 	}
 
 	public int getCurrentRecipeTime() {
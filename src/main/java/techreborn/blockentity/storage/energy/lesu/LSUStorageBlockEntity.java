@@ -54,19 +54,11 @@ public class LSUStorageBlockEntity extends MachineBaseBlockEntity
 				continue;
 			}
 			if (lesuStorage.network != null) {
-				lesuStorage.network.merge(network);
+				network = lesuStorage.network.merge(network);
 			}
 		}
 	}
 
-	public final void setNetwork(LesuNetwork n) {
-		if (n == null) {
-			return;
-		}
-		network = n;
-		network.addElement(this);
-	}
-
 	public final void resetNetwork() {
 		network = null;
 	}
@@ -76,14 +68,20 @@ public class LSUStorageBlockEntity extends MachineBaseBlockEntity
 			return;
 		}
 		network.removeElement(this);
+		resetNetwork();
 	}
 
 	public final void rebuildNetwork() {
 		removeFromNetwork();
-		resetNetwork();
 		findAndJoinNetwork(world, pos);
 	}
 
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		removeFromNetwork();
+	}
+
 	// TileMachineBase
 	@Override
 	public void tick(World world, BlockPos pos, BlockState state, MachineBaseBlockEntity blockEntity) {
@@ -95,11 +93,7 @@ public class LSUStorageBlockEntity extends MachineBaseBlockEntity
 		if (network == null) {
 			findAndJoinNetwork(world, pos);
 		} else {
-			if (network.master != null
-					&& network.master.getWorld().getBlockEntity(new BlockPos(network.master.getPos().getX(),
-					network.master.getPos().getY(), network.master.getPos().getZ())) != network.master) {
-				network.master = null;
-			}
+			network.splitIfNeeded();
 		}
 	}
 
@@ -30,6 +30,7 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
 import reborncore.common.screen.BuiltScreenHandlerProvider;
 import reborncore.common.screen.BuiltScreenHandler;
 import reborncore.client.screen.builder.ScreenHandlerBuilder;
@@ -40,12 +41,12 @@ import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
 
-import java.util.ArrayList;
-
 public class LapotronicSUBlockEntity extends EnergyStorageBlockEntity implements BuiltScreenHandlerProvider {
 
 	private int connectedBlocks = 0;
-	private final ArrayList<LesuNetwork> countedNetworks = new ArrayList<>();
+	// The network this is the master of
+	@Nullable
+	LesuNetwork network = null;
 
 	public LapotronicSUBlockEntity(BlockPos pos, BlockState state) {
 		super(TRBlockEntities.LAPOTRONIC_SU, pos, state, "LESU", 2, TRContent.Machine.LAPOTRONIC_SU.block, RcEnergyTier.LOW, TechRebornConfig.lesuStoragePerBlock);
@@ -72,8 +73,14 @@ public class LapotronicSUBlockEntity extends EnergyStorageBlockEntity implements
 	}
 
 	private void checkNetwork() {
-		countedNetworks.clear();
 		connectedBlocks = 0;
+		if (network != null) {
+			network = network.find();
+			if (network.master != this) {
+				network = null;
+			}
+		}
+
 		for (Direction dir : Direction.values()) {
 			BlockEntity adjacent = world.getBlockEntity(pos.offset(dir));
 			if (!(adjacent instanceof LSUStorageBlockEntity)) {
@@ -83,18 +90,30 @@ public class LapotronicSUBlockEntity extends EnergyStorageBlockEntity implements
 			if (network == null) {
 				continue;
 			}
-			if (countedNetworks.contains(network)) {
-				continue;
-			}
 			if (network.master == null || network.master == this) {
-				connectedBlocks += network.storages.size();
-				countedNetworks.add(network);
+				if (this.network != null && this.network != network) {
+					this.network.master = null;
+				}
+				connectedBlocks += Math.min(network.storages.size(), LesuNetwork.MAX_STORAGES);
 				network.master = this;
+				this.network = network;
 				break;
 			}
 		}
 	}
 
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		if (network != null) {
+			LesuNetwork network = this.network.find();
+			if (network.master == this) {
+				network.master = null;
+			}
+			this.network = null;
+		}
+	}
+
 	// EnergyStorageBlockEntity
 	@Override
 	public void tick(World world, BlockPos pos, BlockState state, MachineBaseBlockEntity blockEntity) {
@@ -120,7 +139,7 @@ public class LapotronicSUBlockEntity extends EnergyStorageBlockEntity implements
 	public BuiltScreenHandler createScreenHandler(int syncID, final PlayerEntity player) {
 		return new ScreenHandlerBuilder("lesu").player(player.getInventory()).inventory().hotbar().armor().complete(8, 18)
 				.addArmor().addInventory().blockEntity(this).energySlot(0, 62, 45).energySlot(1, 98, 45).syncEnergyValue()
-				.sync(this::getConnectedBlocksNum, this::setConnectedBlocksNum).addInventory().create(this, syncID);
+				.syncInt(this::getConnectedBlocksNum, this::setConnectedBlocksNum).addInventory().create(this, syncID);
 	}
 
 //	public int getOutputRate() {
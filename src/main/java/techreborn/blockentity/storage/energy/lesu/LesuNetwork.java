@@ -24,52 +24,156 @@
 
 package techreborn.blockentity.storage.energy.lesu;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+/**
+ * A set of connected {@link LSUStorageBlockEntity}. Joining storages merges the smaller network into the larger one,
+ * removing a storage only marks the network to be split in its connected parts on the next tick.
+ */
 public class LesuNetwork {
 
-	public ArrayList<LSUStorageBlockEntity> storages = new ArrayList<>();
+	// Storages past this are not counted by the master
+	public static final int MAX_STORAGES = 5000;
 
+	public final Set<LSUStorageBlockEntity> storages = new HashSet<>();
+
+	@Nullable
 	public LapotronicSUBlockEntity master;
 
+	// The network this one was merged into, storages always point at the network they are in
+	@Nullable
+	private LesuNetwork mergedInto = null;
+	private boolean needsSplit = false;
+
 	public void addElement(LSUStorageBlockEntity lesuStorage) {
-		if (!storages.contains(lesuStorage) && storages.size() < 5000) {
-			storages.add(lesuStorage);
-		}
+		storages.add(lesuStorage);
 	}
 
 	public void removeElement(LSUStorageBlockEntity lesuStorage) {
-		storages.remove(lesuStorage);
-		rebuild();
+		if (storages.remove(lesuStorage)) {
+			needsSplit = true;
+		}
 	}
 
-	private void rebuild() {
-		master = null;
-		for (LSUStorageBlockEntity lesuStorage : storages) {
-			lesuStorage.findAndJoinNetwork(lesuStorage.getWorld(), lesuStorage.getPos());
+	/**
+	 * @return {@link LesuNetwork} The network this one is part of now
+	 */
+	public LesuNetwork find() {
+		LesuNetwork network = this;
+		while (network.mergedInto != null) {
+			network = network.mergedInto;
+		}
+		if (mergedInto != null) {
+			mergedInto = network;
+		}
+		return network;
+	}
+
+	/**
+	 * @param network {@link LesuNetwork} The network to merge with
+	 * @return {@link LesuNetwork} The merged network, the larger of both
+	 */
+	public LesuNetwork merge(LesuNetwork network) {
+		if (network == this) {
+			return this;
+		}
+
+		LesuNetwork larger = storages.size() >= network.storages.size() ? this : network;
+		LesuNetwork smaller = larger == this ? network : this;
+		for (LSUStorageBlockEntity lesuStorage : smaller.storages) {
+			lesuStorage.network = larger;
+			larger.storages.add(lesuStorage);
+		}
+		smaller.storages.clear();
+		smaller.mergedInto = larger;
+
+		if (larger.master == null) {
+			larger.master = smaller.master;
 		}
+		smaller.master = null;
+		larger.needsSplit |= smaller.needsSplit;
+		return larger;
 	}
 
-	public void merge(LesuNetwork network) {
-		if (network != this) {
-			ArrayList<LSUStorageBlockEntity> blockEntityLesuStorages = new ArrayList<>(network.storages);
-			network.clear(false);
-			for (LSUStorageBlockEntity lesuStorage : blockEntityLesuStorages) {
-				lesuStorage.setNetwork(this);
+	/**
+	 * Splits the network in its connected parts if storages were removed since the last call. The largest part stays
+	 * in this network, the master stays with the part it is next to.
+	 */
+	public void splitIfNeeded() {
+		if (!needsSplit) {
+			return;
+		}
+		needsSplit = false;
+
+		Long2ObjectMap<LSUStorageBlockEntity> byPos = new Long2ObjectOpenHashMap<>(storages.size());
+		for (LSUStorageBlockEntity lesuStorage : storages) {
+			byPos.put(lesuStorage.getPos().asLong(), lesuStorage);
+		}
+
+		List<List<LSUStorageBlockEntity>> parts = new ArrayList<>();
+		Set<LSUStorageBlockEntity> visited = new HashSet<>(storages.size());
+		ArrayDeque<LSUStorageBlockEntity> queue = new ArrayDeque<>();
+		int largest = 0;
+		int largestSize = 0;
+		for (LSUStorageBlockEntity start : storages) {
+			if (!visited.add(start)) {
+				continue;
+			}
+
+			List<LSUStorageBlockEntity> part = new ArrayList<>();
+			queue.add(start);
+			while (!queue.isEmpty()) {
+				LSUStorageBlockEntity lesuStorage = queue.poll();
+				part.add(lesuStorage);
+				for (Direction direction : Direction.values()) {
+					LSUStorageBlockEntity adjacent = byPos.get(BlockPos.offset(lesuStorage.getPos().asLong(), direction));
+					if (adjacent != null && visited.add(adjacent)) {
+						queue.add(adjacent);
+					}
+				}
+			}
+
+			if (part.size() > largestSize) {
+				largest = parts.size();
+				largestSize = part.size();
+			}
+			parts.add(part);
+		}
+
+		LapotronicSUBlockEntity oldMaster = master;
+		master = null;
+		for (int i = 0; i < parts.size(); i++) {
+			if (i == largest) {
+				continue;
 			}
-			if (network.master != null && this.master == null) {
-				this.master = network.master;
+			LesuNetwork network = new LesuNetwork();
+			for (LSUStorageBlockEntity lesuStorage : parts.get(i)) {
+				storages.remove(lesuStorage);
+				network.storages.add(lesuStorage);
+				lesuStorage.network = network;
 			}
 		}
-	}
 
-	private void clear(boolean clearBlockEntities) {
-		if (clearBlockEntities) {
-			for (LSUStorageBlockEntity blockEntityLesuStorage : storages) {
-				blockEntityLesuStorage.resetNetwork();
+		if (oldMaster == null || oldMaster.isRemoved()) {
+			return;
+		}
+		for (Direction direction : Direction.values()) {
+			LSUStorageBlockEntity adjacent = byPos.get(oldMaster.getPos().offset(direction).asLong());
+			if (adjacent != null) {
+				adjacent.network.master = oldMaster;
+				oldMaster.network = adjacent.network;
+				return;
 			}
 		}
-		storages.clear();
 	}
-
 }
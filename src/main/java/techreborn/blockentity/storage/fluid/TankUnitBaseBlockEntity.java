@@ -43,6 +43,7 @@ import reborncore.common.screen.BuiltScreenHandlerProvider;
 import reborncore.common.screen.BuiltScreenHandler;
 import reborncore.client.screen.builder.ScreenHandlerBuilder;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
+import reborncore.common.blockentity.SyncedFields;
 import reborncore.common.fluid.FluidValue;
 import reborncore.common.fluid.container.FluidInstance;
 import reborncore.common.util.RebornInventory;
@@ -135,6 +136,13 @@ public class TankUnitBaseBlockEntity extends MachineBaseBlockEntity implements I
 		}
 	}
 
+	@Override
+	protected void declareSyncedFields(SyncedFields fields) {
+		fields.addFluid(() -> tank.getFluidInstance(), fluid -> tank.setFluidInstance(fluid))
+				.addItemStack(() -> inventory.getStack(0), stack -> inventory.setStack(0, stack))
+				.addItemStack(() -> inventory.getStack(1), stack -> inventory.setStack(1, stack));
+	}
+
 	@Override
 	public boolean canBeUpgraded() {
 		return false;
@@ -203,7 +211,7 @@ public class TankUnitBaseBlockEntity extends MachineBaseBlockEntity implements I
 		return new ScreenHandlerBuilder("tank").player(player.getInventory()).inventory().hotbar()
 				.addInventory().blockEntity(this).fluidSlot(0, 100, 53).outputSlot(1, 140, 53)
 				.sync(tank)
-				.sync(this::getMaxCapacity, this::setMaxCapacity)
+				.syncLong(this::getMaxCapacity, this::setMaxCapacity)
 
 				.addInventory().create(this, syncID);
 	}
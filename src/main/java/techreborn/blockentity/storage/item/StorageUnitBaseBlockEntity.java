@@ -46,6 +46,7 @@ import reborncore.api.IToolDrop;
 import reborncore.api.blockentity.InventoryProvider;
 import reborncore.client.screen.builder.ScreenHandlerBuilder;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
+import reborncore.common.blockentity.SyncedFields;
 import reborncore.common.screen.BuiltScreenHandler;
 import reborncore.common.screen.BuiltScreenHandlerProvider;
 import reborncore.common.util.ItemUtils;
@@ -279,6 +280,15 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 		}
 	}
 
+	@Override
+	protected void declareSyncedFields(SyncedFields fields) {
+		fields.addInt(this::getCurrentCapacity, amount -> storedAmount = amount)
+				.addItemStack(() -> storeItemStack, stack -> storeItemStack = stack)
+				.addItemStack(() -> inventory.getStack(INPUT_SLOT), stack -> inventory.setStack(INPUT_SLOT, stack))
+				.addItemStack(() -> inventory.getStack(OUTPUT_SLOT), stack -> inventory.setStack(OUTPUT_SLOT, stack))
+				.addItemStack(() -> lockedItemStack, stack -> lockedItemStack = stack);
+	}
+
 	@Override
 	public boolean isEmpty() {
 		return getCurrentCapacity() == 0;
@@ -456,10 +466,10 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 				.blockEntity(this)
 				.slot(INPUT_SLOT, 100, 53)
 				.outputSlot(OUTPUT_SLOT, 140, 53)
-				.sync(this::isLockedInt, this::setLockedInt)
+				.syncInt(this::isLockedInt, this::setLockedInt)
 				.sync(this::getStoredStackNBT, this::setStoredStackFromNBT)
-				.sync(this::getStoredAmount, this::setStoredAmount)
-				.sync(this::getMaxCapacity, this::setMaxCapacity)
+				.syncInt(this::getStoredAmount, this::setStoredAmount)
+				.syncInt(this::getMaxCapacity, this::setMaxCapacity)
 				.addInventory().create(this, syncID);
 
 		// Note that inventory is synced, and it gets the stack from that
@@ -43,8 +43,6 @@ import techreborn.blockentity.GuiType;
 import techreborn.init.TRContent;
 import techreborn.utils.damageSources.FusionDamageSource;
 
-import java.util.List;
-
 public class BlockFusionControlComputer extends BlockMachineBase {
 
 	@Override
@@ -52,9 +50,10 @@ public class BlockFusionControlComputer extends BlockMachineBase {
 							  Hand hand, BlockHitResult hitResult) {
 		final FusionControlComputerBlockEntity blockEntityFusionControlComputer = (FusionControlComputerBlockEntity) worldIn.getBlockEntity(pos);
 		if (!playerIn.getStackInHand(hand).isEmpty() && (playerIn.getStackInHand(hand).getItem() == TRContent.Machine.FUSION_COIL.asItem())) {
-			List<BlockPos> coils = Torus.generate(blockEntityFusionControlComputer.getPos(), blockEntityFusionControlComputer.size);
+			BlockPos.Mutable coil = new BlockPos.Mutable();
 			boolean placed = false;
-			for (BlockPos coil : coils) {
+			for (long offset : Torus.getOffsets(blockEntityFusionControlComputer.size)) {
+				coil.set(pos, Torus.getX(offset), Torus.getY(offset), Torus.getZ(offset));
 				if (playerIn.getStackInHand(hand).isEmpty()) {
 					return ActionResult.SUCCESS;
 				}
@@ -127,10 +127,10 @@ public class GuiFusionReactor extends GuiBase<BuiltScreenHandler> {
 	}
 
 	public Optional<Pair<Integer, Integer>> getCoilStackCount() {
-		if (!Torus.getTorusSizeCache().containsKey(blockEntity.size)) {
+		int count = Torus.getSize(blockEntity.size);
+		if (count == 0) {
 			return Optional.empty();
 		}
-		int count = Torus.getTorusSizeCache().get(blockEntity.size);
 		return Optional.of(Pair.of(count / 64, count % 64));
 	}
 }
@@ -214,6 +214,9 @@ public class TechRebornConfig {
 	@Config(config = "items", category = "power", key = "industrialChainsawCost", comment = "Energy Cost for Industrial Chainsaw")
 	public static int industrialChainsawCost = 150;
 
+	@Config(config = "items", category = "general", key = "industrialChainsawBlocksPerTick", comment = "Amount of blocks the Industrial Chainsaw may search or break each tick while felling a tree")
+	public static int industrialChainsawBlocksPerTick = 128;
+
 	@Config(config = "items", category = "power", key = "basicJackhammerCharge", comment = "Energy Capacity for Basic Jackhammer")
 	public static int basicJackhammerCharge = 10_000;
 
@@ -601,6 +604,9 @@ public class TechRebornConfig {
 	@Config(config = "misc", category = "nuke", key = "enabled", comment = "Should the nuke explode, set to false to prevent block damage")
 	public static boolean nukeEnabled = true;
 
+	@Config(config = "misc", category = "nuke", key = "tickbudget", comment = "Time in milliseconds the nuke explosion may spend removing blocks each tick, 0 to remove all blocks at once")
+	public static int nukeTickBudget = 10;
+
 	@Config(config = "misc", category = "resin_basin", key = "saptime", comment = "How long it takes to harvest one sap (ticks)")
 	public static int sapTimeTicks = 80;
 
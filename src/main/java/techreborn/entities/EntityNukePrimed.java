@@ -33,6 +33,8 @@ import net.minecraft.world.World;
 import reborncore.common.explosion.RebornExplosion;
 import techreborn.config.TechRebornConfig;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Created by Mark on 13/03/2016.
  */
@@ -80,6 +82,6 @@ public class EntityNukePrimed extends TntEntity {
 		}
 		RebornExplosion nukeExplosion = new RebornExplosion(getBlockPos(), world, TechRebornConfig.nukeRadius);
 		nukeExplosion.setLivingBase(getCausingEntity());
-		nukeExplosion.applyExplosion();
+		nukeExplosion.applyExplosion(TimeUnit.MILLISECONDS.toNanos(TechRebornConfig.nukeTickBudget));
 	}
 }
@@ -45,6 +45,7 @@ import reborncore.common.powerSystem.RcEnergyTier;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRToolMaterials;
 import techreborn.items.tool.JackhammerItem;
+import techreborn.utils.BlockBreakSession;
 import techreborn.utils.MessageIDs;
 import techreborn.utils.ToolsUtil;
 
@@ -76,11 +77,16 @@ public class AdvancedJackhammerItem extends JackhammerItem implements MultiBlock
 		if (!ItemUtils.isActive(stack) || !stack.getItem().isSuitableFor(stateIn)) {
 			return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 		}
+		if (!(entityLiving instanceof PlayerEntity playerIn)) {
+			return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
+		}
+		BlockBreakSession session = new BlockBreakSession(stack, worldIn, playerIn, pos);
 		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, entityLiving, 1)) {
 			if (shouldBreak(worldIn, pos, additionalPos, stack)) {
-				ToolsUtil.breakBlock(stack, worldIn, additionalPos, entityLiving, cost);
+				session.breakBlock(additionalPos, cost);
 			}
 		}
+		session.finish();
 
 		return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 	}
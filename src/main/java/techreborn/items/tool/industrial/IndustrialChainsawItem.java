@@ -31,13 +31,13 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.tag.BlockTags;
 import net.minecraft.text.Text;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Hand;
 import net.minecraft.util.TypedActionResult;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 import reborncore.common.powerSystem.RcEnergyTier;
@@ -46,27 +46,23 @@ import techreborn.config.TechRebornConfig;
 import techreborn.init.TRToolMaterials;
 import techreborn.items.tool.ChainsawItem;
 import techreborn.utils.MessageIDs;
-import techreborn.utils.ToolsUtil;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 public class IndustrialChainsawItem extends ChainsawItem {
 
-	private static final Direction[] SEARCH_ORDER = new Direction[]{Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST, Direction.UP};
-
 	private BlockState lastCheckedBlockState;
 
 	public IndustrialChainsawItem() {
 		super(TRToolMaterials.INDUSTRIAL_CHAINSAW, TechRebornConfig.industrialChainsawCharge, RcEnergyTier.EXTREME, TechRebornConfig.industrialChainsawCost, 20F, 1.0F, Items.DIAMOND_AXE);
 	}
 
-	private boolean isValidLog(BlockState state) {
+	static boolean isValidLog(BlockState state) {
 		return state.isIn(BlockTags.LOGS);
 	}
 
-	private boolean isValidLeaves(BlockState state) {
+	static boolean isValidLeaves(BlockState state) {
 		return state.isIn(BlockTags.LEAVES) || state.isIn(BlockTags.WART_BLOCKS) || state.isOf(Blocks.SHROOMLIGHT);
 	}
 
@@ -74,31 +70,6 @@ public class IndustrialChainsawItem extends ChainsawItem {
 		return isValidLog(state) || isValidLeaves(state);
 	}
 
-	private void findWood(World world, BlockPos pos, List<BlockPos> wood, List<BlockPos> leaves) {
-		//Limit the amount of wood to be broken to 64 blocks.
-		if (wood.size() >= 64) {
-			return;
-		}
-		//Search 150 leaves for wood
-		if (leaves.size() >= 150) {
-			return;
-		}
-		for (Direction facing : SEARCH_ORDER) {
-			BlockPos checkPos = pos.offset(facing);
-			if (!wood.contains(checkPos) && !leaves.contains(checkPos)) {
-				BlockState state = world.getBlockState(checkPos);
-
-				if (isValidLog(state)) {
-					wood.add(checkPos);
-					findWood(world, checkPos, wood, leaves);
-				} else if (isValidLeaves(state)) {
-					leaves.add(checkPos);
-					findWood(world, checkPos, wood, leaves);
-				}
-			}
-		}
-	}
-
 	@Override
 	public boolean canMine(BlockState state, World world, BlockPos pos, PlayerEntity miner) {
 		lastCheckedBlockState = state;
@@ -108,16 +79,9 @@ public class IndustrialChainsawItem extends ChainsawItem {
 	//ChainsawItem
 	@Override
 	public boolean postMine(ItemStack stack, World worldIn, BlockState blockIn, BlockPos pos, LivingEntity entityLiving) {
-		List<BlockPos> wood = new ArrayList<>();
-		List<BlockPos> leaves = new ArrayList<>();
-		if (ItemUtils.isActive(stack) && (lastCheckedBlockState == null || isValidStartBlock(lastCheckedBlockState))) {
-			findWood(worldIn, pos, wood, leaves);
-			wood.remove(pos);
-			wood.stream()
-					.filter(p -> tryUseEnergy(stack, cost))
-					.forEach(pos1 -> ToolsUtil.breakBlock(stack, worldIn, pos1, entityLiving, cost));
-			leaves.remove(pos);
-			leaves.forEach(pos1 -> ToolsUtil.breakBlock(stack, worldIn, pos1, entityLiving, 0));
+		if (ItemUtils.isActive(stack) && (lastCheckedBlockState == null || isValidStartBlock(lastCheckedBlockState))
+				&& worldIn instanceof ServerWorld serverWorld && entityLiving instanceof PlayerEntity player) {
+			TreeFellingJob.start(serverWorld, player, stack, cost, pos);
 		}
 		return super.postMine(stack, worldIn, blockIn, pos, entityLiving);
 	}
@@ -46,6 +46,7 @@ import techreborn.init.TRContent;
 import techreborn.init.TRToolMaterials;
 import techreborn.items.tool.DrillItem;
 import techreborn.items.tool.MiningLevel;
+import techreborn.utils.BlockBreakSession;
 import techreborn.utils.InitUtils;
 import techreborn.utils.MessageIDs;
 import techreborn.utils.ToolsUtil;
@@ -86,11 +87,13 @@ public class IndustrialDrillItem extends DrillItem {
 		if (!(entityLiving instanceof PlayerEntity playerIn)) {
 			return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 		}
+		BlockBreakSession session = new BlockBreakSession(stack, worldIn, playerIn, pos);
 		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, entityLiving, 1)) {
 			if (shouldBreak(playerIn, worldIn, pos, additionalPos)) {
-				ToolsUtil.breakBlock(stack, worldIn, additionalPos, entityLiving, cost);
+				session.breakBlock(additionalPos, cost);
 			}
 		}
+		session.finish();
 
 		return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 	}
@@ -48,6 +48,7 @@ import reborncore.common.util.ItemUtils;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRToolMaterials;
 import techreborn.items.tool.JackhammerItem;
+import techreborn.utils.BlockBreakSession;
 import techreborn.utils.MessageIDs;
 import techreborn.utils.ToolsUtil;
 
@@ -107,12 +108,17 @@ public class IndustrialJackhammerItem extends JackhammerItem implements MultiBlo
 		if (!ItemUtils.isActive(stack) || !stack.getItem().isSuitableFor(stateIn)) {
 			return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 		}
+		if (!(entityLiving instanceof PlayerEntity playerIn)) {
+			return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
+		}
 		int radius = isAOE5(stack) ? 2 : 1;
+		BlockBreakSession session = new BlockBreakSession(stack, worldIn, playerIn, pos);
 		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, entityLiving, radius)) {
 			if (shouldBreak(worldIn, pos, additionalPos, stack)) {
-				ToolsUtil.breakBlock(stack, worldIn, additionalPos, entityLiving, cost);
+				session.breakBlock(additionalPos, cost);
 			}
 		}
+		session.finish();
 
 		return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 	}
@@ -0,0 +1,222 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.items.tool.industrial;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+import reborncore.common.powerSystem.RcEnergyItem;
+import techreborn.config.TechRebornConfig;
+import techreborn.utils.BlockBreakSession;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fells a tree for the {@link IndustrialChainsawItem}. The tree is found with a breadth first search and then broken,
+ * both spread over as many ticks as needed to stay within {@link TechRebornConfig#industrialChainsawBlocksPerTick}.
+ */
+public class TreeFellingJob {
+	private static final Map<World, WorldJobs> WORLDS = new HashMap<>();
+
+	private static final Direction[] SEARCH_ORDER = new Direction[]{Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST, Direction.UP};
+
+	//Limit the amount of wood to be broken to 64 blocks.
+	private static final int MAX_WOOD = 64;
+	//Search 150 leaves for wood
+	private static final int MAX_LEAVES = 150;
+
+	private final ServerWorld world;
+	private final PlayerEntity player;
+	private final ItemStack stack;
+	private final int cost;
+	private final BlockPos origin;
+
+	private final LongArrayFIFOQueue frontier = new LongArrayFIFOQueue();
+	private final LongSet visited = new LongOpenHashSet();
+	private final LongArrayList wood = new LongArrayList();
+	private final LongArrayList leaves = new LongArrayList();
+	private final BlockPos.Mutable mutable = new BlockPos.Mutable();
+
+	private boolean searching = true;
+	private int woodBroken;
+	private int leavesBroken;
+
+	private TreeFellingJob(ServerWorld world, PlayerEntity player, ItemStack stack, int cost, BlockPos origin) {
+		this.world = world;
+		this.player = player;
+		this.stack = stack;
+		this.cost = cost;
+		this.origin = origin;
+
+		long originPos = origin.asLong();
+		visited.add(originPos);
+		frontier.enqueue(originPos);
+	}
+
+	/**
+	 * Starts felling the tree connected to the given position. As much as the budget allows is done straight away so
+	 * small trees still come down in the tick they were cut.
+	 */
+	static void start(ServerWorld world, PlayerEntity player, ItemStack stack, int cost, BlockPos origin) {
+		WorldJobs worldJobs = WORLDS.computeIfAbsent(world, w -> new WorldJobs());
+		TreeFellingJob job = new TreeFellingJob(world, player, stack, cost, origin);
+
+		int budget = worldJobs.getBudget(world.getTime());
+		if (budget > 0) {
+			worldJobs.spent += job.tick(budget);
+		}
+		if (!job.isFinished()) {
+			worldJobs.jobs.add(job);
+		}
+	}
+
+	private static void onServerWorldTick(ServerWorld world) {
+		WorldJobs worldJobs = WORLDS.get(world);
+		if (worldJobs == null || worldJobs.jobs.isEmpty()) {
+			return;
+		}
+
+		// Jobs share the budget so that several players felling trees cannot multiply it.
+		Iterator<TreeFellingJob> iterator = worldJobs.jobs.iterator();
+		while (iterator.hasNext()) {
+			int budget = worldJobs.getBudget(world.getTime());
+			if (budget <= 0) {
+				break;
+			}
+
+			TreeFellingJob job = iterator.next();
+			worldJobs.spent += job.tick(budget);
+			if (job.isFinished()) {
+				iterator.remove();
+			}
+		}
+	}
+
+	public static void init() {
+		ServerTickEvents.END_WORLD_TICK.register(TreeFellingJob::onServerWorldTick);
+		ServerWorldEvents.UNLOAD.register((server, world) -> WORLDS.remove(world));
+	}
+
+	/**
+	 * @return {@code int} Amount of blocks searched or broken
+	 */
+	private int tick(int budget) {
+		if (player.isRemoved() || player.getMainHandStack() != stack) {
+			// The chainsaw is gone, leave the rest of the tree standing.
+			searching = false;
+			woodBroken = wood.size();
+			leavesBroken = leaves.size();
+			return 0;
+		}
+
+		int work = 0;
+		while (searching && work < budget) {
+			if (frontier.isEmpty() || wood.size() >= MAX_WOOD || leaves.size() >= MAX_LEAVES) {
+				searching = false;
+				break;
+			}
+			search(frontier.dequeueLong());
+			work++;
+		}
+
+		BlockBreakSession session = new BlockBreakSession(stack, world, player, origin);
+		while (woodBroken < wood.size() && work < budget) {
+			BlockPos pos = BlockPos.fromLong(wood.getLong(woodBroken++));
+			work++;
+			// Another job or the player may have got here first.
+			if (IndustrialChainsawItem.isValidLog(world.getBlockState(pos)) && ((RcEnergyItem) stack.getItem()).tryUseEnergy(stack, cost)) {
+				session.breakBlock(pos, cost);
+			}
+		}
+
+		while (woodBroken == wood.size() && leavesBroken < leaves.size() && work < budget) {
+			BlockPos pos = BlockPos.fromLong(leaves.getLong(leavesBroken++));
+			work++;
+			if (IndustrialChainsawItem.isValidLeaves(world.getBlockState(pos))) {
+				session.breakBlock(pos, 0);
+			}
+		}
+		session.finish();
+
+		return work;
+	}
+
+	private boolean isFinished() {
+		return !searching && woodBroken == wood.size() && leavesBroken == leaves.size();
+	}
+
+	private void search(long pos) {
+		for (Direction facing : SEARCH_ORDER) {
+			long checkPos = BlockPos.offset(pos, facing);
+			if (!visited.add(checkPos)) {
+				continue;
+			}
+
+			BlockState state = world.getBlockState(mutable.set(checkPos));
+			if (IndustrialChainsawItem.isValidLog(state)) {
+				if (wood.size() < MAX_WOOD) {
+					wood.add(checkPos);
+					frontier.enqueue(checkPos);
+				}
+			} else if (IndustrialChainsawItem.isValidLeaves(state)) {
+				if (leaves.size() < MAX_LEAVES) {
+					leaves.add(checkPos);
+					frontier.enqueue(checkPos);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Pending jobs of a world, and the budget they and newly started jobs already used in the current world tick.
+	 */
+	private static class WorldJobs {
+		private final List<TreeFellingJob> jobs = new ArrayList<>();
+		private long time = -1;
+		private int spent;
+
+		private int getBudget(long worldTime) {
+			if (time != worldTime) {
+				time = worldTime;
+				spent = 0;
+			}
+			return TechRebornConfig.industrialChainsawBlocksPerTick - spent;
+		}
+	}
+}
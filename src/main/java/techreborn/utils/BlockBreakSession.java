@@ -0,0 +1,160 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.utils;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+import reborncore.common.util.DropCapture;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Breaks a group of blocks for an AOE tool in one go. Blocks are removed section by section without neighbor updates,
+ * which are then only sent to the blocks around the broken area. The drops of every block are merged into full stacks
+ * and spawned at the origin.
+ */
+public class BlockBreakSession {
+	private final ItemStack tool;
+	private final World world;
+	private final PlayerEntity player;
+	private final BlockPos origin;
+
+	private final Long2ObjectLinkedOpenHashMap<LongArrayList> sections = new Long2ObjectLinkedOpenHashMap<>();
+	private final LongSet queued = new LongOpenHashSet();
+
+	/**
+	 * @param tool   {@link ItemStack} Tool used to break the blocks
+	 * @param world  {@link World} World reference
+	 * @param player {@link PlayerEntity} Player who broke the blocks
+	 * @param origin {@link BlockPos} Position the merged drops are spawned at
+	 */
+	public BlockBreakSession(ItemStack tool, World world, PlayerEntity player, BlockPos origin) {
+		this.tool = tool;
+		this.world = world;
+		this.player = player;
+		this.origin = origin;
+	}
+
+	/**
+	 * Queues a block to be broken by {@link #finish()}. Energy is used straight away, same as
+	 * {@link ToolsUtil#breakBlock}.
+	 *
+	 * @param pos  {@link BlockPos} Position of block to break
+	 * @param cost {@code int} Energy cost of breaking the block
+	 */
+	public void breakBlock(BlockPos pos, int cost) {
+		BlockState blockState = world.getBlockState(pos);
+		if (blockState.isAir() || blockState.getHardness(world, pos) == -1.0F) {
+			return;
+		}
+		long packed = pos.asLong();
+		if (queued.contains(packed) || !ToolsUtil.useEnergy(tool, world, cost)) {
+			return;
+		}
+		queued.add(packed);
+		sections.computeIfAbsent(ChunkSectionPos.fromBlockPos(packed), section -> new LongArrayList()).add(packed);
+	}
+
+	/**
+	 * Breaks all queued blocks, updates the blocks around them and spawns the merged drops.
+	 */
+	public void finish() {
+		if (queued.isEmpty()) {
+			return;
+		}
+
+		Long2ObjectMap<Block> broken = new Long2ObjectOpenHashMap<>(queued.size());
+		List<ItemStack> drops = new ArrayList<>();
+
+		DropCapture.begin(world, stack -> mergeDrop(drops, stack));
+		try {
+			for (LongArrayList section : sections.values()) {
+				for (int i = 0; i < section.size(); i++) {
+					long packed = section.getLong(i);
+					BlockPos pos = BlockPos.fromLong(packed);
+					BlockState blockState = world.getBlockState(pos);
+					if (blockState.isAir()) {
+						continue;
+					}
+
+					BlockEntity blockEntity = world.getBlockEntity(pos);
+					blockState.getBlock().afterBreak(world, player, pos, blockState, blockEntity, tool);
+					world.setBlockState(pos, Blocks.AIR.getDefaultState(), Block.NOTIFY_LISTENERS);
+					world.removeBlockEntity(pos);
+					broken.put(packed, blockState.getBlock());
+				}
+			}
+		} finally {
+			DropCapture.end();
+		}
+
+		// Blocks inside the area are all air now, only the ones around it need to know.
+		for (Long2ObjectMap.Entry<Block> entry : broken.long2ObjectEntrySet()) {
+			long packed = entry.getLongKey();
+			for (Direction direction : Direction.values()) {
+				long neighbor = BlockPos.offset(packed, direction);
+				if (!broken.containsKey(neighbor)) {
+					world.updateNeighbor(BlockPos.fromLong(neighbor), entry.getValue(), BlockPos.fromLong(packed));
+				}
+			}
+		}
+
+		for (ItemStack drop : drops) {
+			Block.dropStack(world, origin, drop);
+		}
+
+		sections.clear();
+		queued.clear();
+	}
+
+	private static void mergeDrop(List<ItemStack> drops, ItemStack stack) {
+		for (ItemStack drop : drops) {
+			if (drop.getCount() < drop.getMaxCount() && ItemStack.canCombine(drop, stack)) {
+				int amount = Math.min(stack.getCount(), drop.getMaxCount() - drop.getCount());
+				drop.increment(amount);
+				stack.decrement(amount);
+				if (stack.isEmpty()) {
+					return;
+				}
+			}
+		}
+		drops.add(stack.copy());
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.utils;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.Recipe;
+import net.minecraft.recipe.RecipeManager;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.recipe.SmeltingRecipe;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Smelting recipes by input item, including the items that can't be smelted, so furnaces don't have to go over
+ * every recipe of the game. The cache of a recipe manager is dropped when its smelting recipes are reloaded.
+ * <p>
+ * Stacks with nbt are never cached, as the cache only keys on the item.
+ */
+public final class SmeltingRecipeCache {
+	private static final Map<RecipeManager, SmeltingRecipeCache> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private final Map<?, ? extends Recipe<?>> source;
+	private final Map<Item, Optional<SmeltingRecipe>> recipes = new IdentityHashMap<>();
+
+	private SmeltingRecipeCache(Map<?, ? extends Recipe<?>> source) {
+		this.source = source;
+	}
+
+	public static Optional<SmeltingRecipe> getRecipe(RecipeManager recipeManager, ItemStack input) {
+		if (input.isEmpty()) {
+			return Optional.empty();
+		}
+
+		SmeltingRecipeCache cache = of(recipeManager);
+		if (input.hasNbt()) {
+			return cache.find(input);
+		}
+		synchronized (cache.recipes) {
+			return cache.recipes.computeIfAbsent(input.getItem(), item -> cache.find(input));
+		}
+	}
+
+	private static SmeltingRecipeCache of(RecipeManager recipeManager) {
+		Map<?, ? extends Recipe<?>> source = recipeManager.getAllOfType(RecipeType.SMELTING);
+		SmeltingRecipeCache cache = CACHES.get(recipeManager);
+		if (cache == null || cache.source != source) {
+			cache = new SmeltingRecipeCache(source);
+			CACHES.put(recipeManager, cache);
+		}
+		return cache;
+	}
+
+	private Optional<SmeltingRecipe> find(ItemStack input) {
+		for (Recipe<?> recipe : source.values()) {
+			if (recipe instanceof SmeltingRecipe smeltingRecipe && RecipeUtils.matchesSingleInput(recipe, input)) {
+				return Optional.of(smeltingRecipe);
+			}
+		}
+		return Optional.empty();
+	}
+}
@@ -41,7 +41,6 @@ import reborncore.common.powerSystem.RcEnergyItem;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Random;
 import java.util.Set;
 
 /**
@@ -56,17 +55,29 @@ public class ToolsUtil {
 		if (blockState.getHardness(world, pos) == -1.0F) {
 			return;
 		}
-		Random rand = new Random();
-		if (rand.nextInt(EnchantmentHelper.getLevel(Enchantments.UNBREAKING, tool) + 1) == 0) {
-			if (!((RcEnergyItem) tool.getItem()).tryUseEnergy(tool, cost)) {
-				return;
-			}
+		if (!useEnergy(tool, world, cost)) {
+			return;
 		}
 		blockState.getBlock().afterBreak(world, (PlayerEntity) entityLiving, pos, blockState, world.getBlockEntity(pos), tool);
 		world.setBlockState(pos, Blocks.AIR.getDefaultState());
 		world.removeBlockEntity(pos);
 	}
 
+	/**
+	 * Uses energy for breaking a block, Unbreaking gives a chance to break it for free
+	 *
+	 * @param tool  {@link ItemStack} Tool used to break the block
+	 * @param world {@link World} World reference
+	 * @param cost  {@code int} Energy cost of breaking the block
+	 * @return {@code boolean} True if the block can be broken
+	 */
+	static boolean useEnergy(ItemStack tool, World world, int cost) {
+		if (world.random.nextInt(EnchantmentHelper.getLevel(Enchantments.UNBREAKING, tool) + 1) != 0) {
+			return true;
+		}
+		return ((RcEnergyItem) tool.getItem()).tryUseEnergy(tool, cost);
+	}
+
 	/**
 	 * Fills in set of {@link BlockPos} which should be broken by AOE mining
 	 *